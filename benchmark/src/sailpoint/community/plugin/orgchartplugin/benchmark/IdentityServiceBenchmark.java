@@ -0,0 +1,150 @@
+package sailpoint.community.plugin.orgchartplugin.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.community.plugin.orgchartplugin.service.HierarchyIndex;
+import sailpoint.community.plugin.orgchartplugin.service.IdentityService;
+import sailpoint.community.plugin.orgchartplugin.service.PluginSettingService;
+import sailpoint.community.plugin.orgchartplugin.service.PluginSettings;
+import sailpoint.object.Identity;
+import sailpoint.tools.GeneralException;
+
+/**
+ * Latency and query count of the IdentityService entry points over a synthetic organization.
+ *
+ * The queries per operation are reported as the secondary result "queries". Run with:
+ * ant benchmark -Djmh.home=/path/to/jmh/jars
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdentityServiceBenchmark {
+
+	@Param({ "3", "5" })
+	public int depth;
+
+	@Param({ "8" })
+	public int span;
+
+	@Param({ "50" })
+	public int workgroups;
+
+	@Param({ "256" })
+	public int payloadSize;
+
+	private InMemoryContext inMemoryContext;
+	private SailPointContext context;
+	private PluginSettings settings;
+	private String managerId;
+	private String leafId;
+	private String workgroupId;
+
+	/**
+	 * Queries of one benchmark operation
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class QueryCounter {
+		public long queries;
+	}
+
+	@Setup(Level.Trial)
+	public void setup() throws GeneralException {
+		SyntheticOrg org = new SyntheticOrg(depth, span, workgroups, payloadSize, 42L);
+		inMemoryContext = InMemoryContext.create(org);
+		context = inMemoryContext.getContext();
+		Map<String, Object> values = new HashMap<>();
+		values.put("levels", 2);
+		values.put("identityCardAttributes", "email,department,location");
+		values.put("workgroupCardAttributes", "description");
+		values.put("workgroupMemberPreviewSize", 5);
+		values.put("hierarchyIndexRefreshSeconds", 3600);
+		values.put("nodeCacheTtlSeconds", 0);
+		PluginSettingService.setSettingSource(new PluginSettingService.SettingSource() {
+			@Override
+			public String getSettingString(String name) {
+				return (values.get(name) != null ? values.get(name).toString() : null);
+			}
+
+			@Override
+			public int getSettingInt(String name) {
+				return (values.get(name) != null ? (Integer) values.get(name) : 0);
+			}
+		});
+		settings = PluginSettingService.getSettings();
+		HierarchyIndex.refresh(context);
+		List<List<String>> levels = org.getLevels();
+		managerId = levels.get(Math.max(0, levels.size() - 2)).get(0);
+		leafId = levels.get(levels.size() - 1).get(levels.get(levels.size() - 1).size() / 2);
+		workgroupId = org.getWorkgroupIds().get(0);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		PluginSettingService.setSettingSource(null);
+	}
+
+	@Benchmark
+	public List<Map<String, Object>> getTreeNodes(QueryCounter counter) throws GeneralException {
+		long start = inMemoryContext.getQueryCount();
+		List<Map<String, Object>> nodes = IdentityService.getTreeNodes(context, leafId, settings);
+		counter.queries += inMemoryContext.getQueryCount() - start;
+		return nodes;
+	}
+
+	@Benchmark
+	public Map<String, Object> getNodeMap(QueryCounter counter) throws GeneralException {
+		long start = inMemoryContext.getQueryCount();
+		Identity identity = context.getObjectById(Identity.class, managerId);
+		Map<String, Object> node = IdentityService.getNodeMap(context, identity, null);
+		counter.queries += inMemoryContext.getQueryCount() - start;
+		return node;
+	}
+
+	@Benchmark
+	public List<String> getParents(QueryCounter counter) throws GeneralException {
+		long start = inMemoryContext.getQueryCount();
+		List<String> parents = IdentityService.getParents(HierarchyIndex.getIndex(context), leafId, depth, new ArrayList<>());
+		counter.queries += inMemoryContext.getQueryCount() - start;
+		return parents;
+	}
+
+	/**
+	 * The sections of the details view, loaded one after the other on the same context
+	 */
+	@Benchmark
+	public void getDetails(QueryCounter counter, Blackhole blackhole) throws GeneralException {
+		long start = inMemoryContext.getQueryCount();
+		Identity identity = context.getObjectById(Identity.class, managerId);
+		blackhole.consume(IdentityService.getWorkgroupNames(context, managerId));
+		blackhole.consume(IdentityService.getNumberOfPolicyViolations(context, identity));
+		blackhole.consume(IdentityService.getOwnedEntitlements(context, managerId, 0, IdentityService.DEFAULT_PAGE_SIZE));
+		blackhole.consume(IdentityService.getOwnedRoles(context, managerId, 0, IdentityService.DEFAULT_PAGE_SIZE));
+		blackhole.consume(IdentityService.getMembers(context, workgroupId, null, 0, IdentityService.DEFAULT_PAGE_SIZE));
+		counter.queries += inMemoryContext.getQueryCount() - start;
+	}
+}
@@ -0,0 +1,341 @@
+package sailpoint.community.plugin.orgchartplugin.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.object.Filter;
+import sailpoint.object.Identity;
+import sailpoint.object.QueryOptions;
+import sailpoint.tools.GeneralException;
+
+/**
+ * SailPointContext stand-in which answers search, countObjects and getObjectById from the rows of a SyntheticOrg
+ * and counts the calls per method. The rows are joined with their collection properties (e.g. "workgroups.id")
+ * like the database does, filters, orderings, group bys and paging of the QueryOptions are applied in memory.
+ *
+ * Every other method of SailPointContext throws UnsupportedOperationException.
+ */
+public class InMemoryContext implements InvocationHandler {
+
+	private static final String COUNT = "count(*)";
+
+	private final SyntheticOrg org;
+	private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+	private InMemoryContext(SyntheticOrg org) {
+		this.org = org;
+	}
+
+	/**
+	 * Return a SailPointContext backed by the organization, together with its call counters
+	 *
+	 * @param org SyntheticOrg
+	 * @return InMemoryContext
+	 */
+	public static InMemoryContext create(SyntheticOrg org) {
+		return new InMemoryContext(org);
+	}
+
+	public SailPointContext getContext() {
+		return (SailPointContext) Proxy.newProxyInstance(SailPointContext.class.getClassLoader(),
+				new Class<?>[] { SailPointContext.class }, this);
+	}
+
+	/**
+	 * Number of calls of search, countObjects and getObjectById since the last reset
+	 *
+	 * @return long
+	 */
+	public long getQueryCount() {
+		return calls.values().stream().mapToLong(LongAdder::sum).sum();
+	}
+
+	public Map<String, Long> getQueryCounts() {
+		Map<String, Long> counts = new HashMap<>();
+		calls.forEach((method, count) -> counts.put(method, count.sum()));
+		return counts;
+	}
+
+	public void reset() {
+		calls.clear();
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		switch (method.getName()) {
+		case "search":
+			count(method.getName());
+			if (args.length == 2) {
+				return searchObjects((Class<?>) args[0], (QueryOptions) args[1]);
+			}
+			List<String> properties = (args[2] instanceof String ? Arrays.asList(((String) args[2]).split("\\s*,\\s*")) : toStrings(args[2]));
+			return project((Class<?>) args[0], (QueryOptions) args[1], properties).iterator();
+		case "countObjects":
+			count(method.getName());
+			return countObjects((Class<?>) args[0], (QueryOptions) args[1]);
+		case "getObjectById":
+			count(method.getName());
+			return getObjectById((Class<?>) args[0], (String) args[1]);
+		case "decache":
+			return null;
+		case "hashCode":
+			return System.identityHashCode(proxy);
+		case "equals":
+			return proxy == args[0];
+		case "toString":
+			return "InMemoryContext[" + org.size() + " identities]";
+		default:
+			throw new UnsupportedOperationException("Not supported by the benchmark context: " + method.getName());
+		}
+	}
+
+	private void count(String method) {
+		calls.computeIfAbsent(method, k -> new LongAdder()).increment();
+	}
+
+	private int countObjects(Class<?> clazz, QueryOptions qo) {
+		Set<Object> ids = new LinkedHashSet<>();
+		for (Map<String, Object> row : select(clazz, qo, Collections.emptyList())) {
+			ids.add(row.get("id"));
+		}
+		return ids.size();
+	}
+
+	private java.util.Iterator<?> searchObjects(Class<?> clazz, QueryOptions qo) throws GeneralException {
+		List<Object> objects = new ArrayList<>();
+		Set<Object> ids = new LinkedHashSet<>();
+		for (Map<String, Object> row : select(clazz, qo, Collections.emptyList())) {
+			if (ids.add(row.get("id"))) {
+				objects.add(getObjectById(clazz, (String) row.get("id")));
+			}
+		}
+		return objects.iterator();
+	}
+
+	/**
+	 * Build an Identity object with the id, names, attributes and workgroups of the row, null for other classes
+	 */
+	@SuppressWarnings("unchecked")
+	private Object getObjectById(Class<?> clazz, String id) {
+		Map<String, Object> row = org.getIdentity(id);
+		if (!Identity.class.equals(clazz) || row == null) {
+			return null;
+		}
+		Identity identity = toIdentity(row);
+		List<Identity> workgroups = new ArrayList<>();
+		for (String workgroupId : (List<String>) row.get("workgroups.id")) {
+			workgroups.add(toIdentity(org.getIdentity(workgroupId)));
+		}
+		identity.setWorkgroups(workgroups);
+		return identity;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Identity toIdentity(Map<String, Object> row) {
+		Identity identity = new Identity();
+		identity.setId((String) row.get("id"));
+		identity.setName((String) row.get("name"));
+		identity.setDisplayName((String) row.get("displayName"));
+		identity.setWorkgroup(Boolean.TRUE.equals(row.get("workgroup")));
+		((Map<String, Object>) row.get("attributes")).forEach(identity::setAttribute);
+		return identity;
+	}
+
+	private List<Object[]> project(Class<?> clazz, QueryOptions qo, List<String> properties) {
+		List<String> groupBys = (qo.getGroupBys() != null ? qo.getGroupBys() : Collections.emptyList());
+		List<Map<String, Object>> rows = select(clazz, qo, properties);
+		List<Object[]> result = new ArrayList<>();
+		if (!groupBys.isEmpty()) {
+			Map<List<Object>, Integer> counts = new LinkedHashMap<>();
+			for (Map<String, Object> row : rows) {
+				List<Object> key = new ArrayList<>();
+				for (String groupBy : groupBys) {
+					key.add(row.get(groupBy));
+				}
+				counts.merge(key, 1, Integer::sum);
+			}
+			for (Map.Entry<List<Object>, Integer> entry : counts.entrySet()) {
+				Object[] values = new Object[properties.size()];
+				for (int i = 0; i < properties.size(); i++) {
+					values[i] = (COUNT.equals(properties.get(i)) ? entry.getValue() : entry.getKey().get(groupBys.indexOf(properties.get(i))));
+				}
+				result.add(values);
+			}
+			return result;
+		}
+		for (Map<String, Object> row : rows) {
+			Object[] values = new Object[properties.size()];
+			for (int i = 0; i < properties.size(); i++) {
+				values[i] = row.get(properties.get(i));
+			}
+			result.add(values);
+		}
+		return result;
+	}
+
+	/**
+	 * Join the rows with the referenced collection properties, then filter, sort and page them
+	 */
+	@SuppressWarnings("unchecked")
+	private List<Map<String, Object>> select(Class<?> clazz, QueryOptions qo, List<String> properties) {
+		Set<String> referenced = new LinkedHashSet<>(properties);
+		if (qo.getGroupBys() != null) {
+			referenced.addAll(qo.getGroupBys());
+		}
+		List<Filter> filters = (qo.getFilters() != null ? qo.getFilters() : Collections.emptyList());
+		for (Filter filter : filters) {
+			collectProperties(filter, referenced);
+		}
+		referenced.retainAll(SyntheticOrg.COLLECTION_PROPERTIES);
+		List<Map<String, Object>> rows = new ArrayList<>();
+		for (Map<String, Object> row : org.getTable(clazz)) {
+			for (Map<String, Object> joined : join(row, new ArrayList<>(referenced))) {
+				if (filters.stream().allMatch(filter -> matches(joined, filter))) {
+					rows.add(joined);
+				}
+			}
+		}
+		if (qo.getOrderings() != null && !qo.getOrderings().isEmpty()) {
+			Comparator<Map<String, Object>> comparator = null;
+			for (QueryOptions.Ordering ordering : qo.getOrderings()) {
+				Comparator<Map<String, Object>> next = Comparator.comparing(row -> (Comparable<Object>) comparable(row.get(ordering.getColumn())),
+						Comparator.nullsFirst(Comparator.naturalOrder()));
+				next = (ordering.isAscending() ? next : next.reversed());
+				comparator = (comparator == null ? next : comparator.thenComparing(next));
+			}
+			rows.sort(comparator);
+		}
+		int from = Math.min(rows.size(), Math.max(0, qo.getFirstRow()));
+		int to = (qo.getResultLimit() > 0 ? Math.min(rows.size(), from + qo.getResultLimit()) : rows.size());
+		return rows.subList(from, to);
+	}
+
+	private static List<Map<String, Object>> join(Map<String, Object> row, List<String> collectionProperties) {
+		List<Map<String, Object>> rows = Collections.singletonList(row);
+		for (String property : collectionProperties) {
+			List<Map<String, Object>> joined = new ArrayList<>();
+			for (Map<String, Object> current : rows) {
+				Collection<?> values = (Collection<?>) row.get(property);
+				if (values == null || values.isEmpty()) { // Outer join
+					Map<String, Object> copy = new HashMap<>(current);
+					copy.put(property, null);
+					joined.add(copy);
+				}
+				for (Object value : (values != null ? values : Collections.emptyList())) {
+					Map<String, Object> copy = new HashMap<>(current);
+					copy.put(property, value);
+					joined.add(copy);
+				}
+			}
+			rows = joined;
+		}
+		return rows;
+	}
+
+	private static void collectProperties(Filter filter, Set<String> properties) {
+		if (filter instanceof Filter.LeafFilter) {
+			properties.add(((Filter.LeafFilter) filter).getProperty());
+		} else if (filter instanceof Filter.CompositeFilter) {
+			for (Filter child : ((Filter.CompositeFilter) filter).getChildren()) {
+				collectProperties(child, properties);
+			}
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static boolean matches(Map<String, Object> row, Filter filter) {
+		if (filter instanceof Filter.CompositeFilter) {
+			Filter.CompositeFilter composite = (Filter.CompositeFilter) filter;
+			switch (composite.getOperation()) {
+			case AND:
+				return composite.getChildren().stream().allMatch(child -> matches(row, child));
+			case OR:
+				return composite.getChildren().stream().anyMatch(child -> matches(row, child));
+			case NOT:
+				return !matches(row, composite.getChildren().get(0));
+			default:
+				throw new UnsupportedOperationException("Filter not supported: " + filter);
+			}
+		}
+		Filter.LeafFilter leaf = (Filter.LeafFilter) filter;
+		Object value = row.get(leaf.getProperty());
+		Object expected = leaf.getValue();
+		if (leaf.isIgnoreCase() && value instanceof String && expected instanceof String) {
+			value = ((String) value).toLowerCase();
+			expected = ((String) expected).toLowerCase();
+		}
+		switch (leaf.getOperation()) {
+		case EQ:
+			return value != null && comparable(value).equals(comparable(expected));
+		case NE:
+			return value == null || !comparable(value).equals(comparable(expected));
+		case IN:
+			return value != null && ((Collection<?>) expected).contains(value);
+		case GE:
+			return value != null && ((Comparable) comparable(value)).compareTo(comparable(expected)) >= 0;
+		case GT:
+			return value != null && ((Comparable) comparable(value)).compareTo(comparable(expected)) > 0;
+		case LE:
+			return value != null && ((Comparable) comparable(value)).compareTo(comparable(expected)) <= 0;
+		case LT:
+			return value != null && ((Comparable) comparable(value)).compareTo(comparable(expected)) < 0;
+		case ISNULL:
+			return value == null;
+		case NOTNULL:
+			return value != null;
+		case LIKE:
+			if (value == null) {
+				return false;
+			}
+			String text = value.toString();
+			String pattern = String.valueOf(expected);
+			switch (leaf.getMatchMode() != null ? leaf.getMatchMode() : Filter.MatchMode.EXACT) {
+			case START:
+				return text.startsWith(pattern);
+			case END:
+				return text.endsWith(pattern);
+			case ANYWHERE:
+				return text.contains(pattern);
+			default:
+				return text.equals(pattern);
+			}
+		default:
+			throw new UnsupportedOperationException("Filter not supported: " + filter);
+		}
+	}
+
+	/**
+	 * Dates are compared by time, numbers by their long value and everything else by its string value
+	 */
+	private static Object comparable(Object value) {
+		if (value instanceof java.util.Date) {
+			return ((java.util.Date) value).getTime();
+		} else if (value instanceof Number) {
+			return ((Number) value).longValue();
+		}
+		return (value != null ? value.toString() : null);
+	}
+
+	private static List<String> toStrings(Object value) {
+		List<String> result = new ArrayList<>();
+		for (Object element : (Collection<?>) value) {
+			result.add(String.valueOf(element));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,223 @@
+package sailpoint.community.plugin.orgchartplugin.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import sailpoint.object.Bundle;
+import sailpoint.object.Identity;
+import sailpoint.object.ManagedAttribute;
+import sailpoint.object.PolicyViolation;
+import sailpoint.object.SailPointObject;
+
+/**
+ * Generates a synthetic organization as rows of the properties the plugin queries, e.g. "manager.id" or "workgroups.id".
+ * Collection properties are kept as lists. The same seed always generates the same organization.
+ *
+ * The hierarchy is a complete tree: one root and span reports for every identity above the given depth.
+ */
+public class SyntheticOrg {
+
+	public static final List<String> COLLECTION_PROPERTIES = Arrays.asList("workgroups.id", "assignedRoles.id", "bundles.id");
+
+	private static final String[] TYPES = { "employee", "contractor", "partner" };
+	private static final String[] DEPARTMENTS = { "Finance", "Sales", "Engineering", "Marketing", "Legal", "Support" };
+	private static final String[] APPLICATIONS = { "Active Directory", "SAP", "Salesforce", "Workday" };
+	private static final String PAYLOAD_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+	private final Map<Class<?>, List<Map<String, Object>>> tables = new HashMap<>();
+	private final Map<String, Map<String, Object>> identities = new LinkedHashMap<>();
+	private final List<List<String>> levels = new ArrayList<>();
+	private final List<String> workgroupIds = new ArrayList<>();
+	private final Random random;
+	private final Date created = new Date(System.currentTimeMillis() - 24 * 60 * 60 * 1000L);
+	private int sequence = 0;
+
+	/**
+	 * @param depth int number of management levels below the root
+	 * @param span int reports per manager
+	 * @param workgroupCount int
+	 * @param payloadSize int characters of the random attribute added to every identity
+	 * @param seed long
+	 */
+	public SyntheticOrg(int depth, int span, int workgroupCount, int payloadSize, long seed) {
+		this.random = new Random(seed);
+		List<String> roleIds = generateRoles(Math.max(10, workgroupCount));
+		List<String> level = new ArrayList<>();
+		level.add(addIdentity(null, payloadSize, roleIds).get("id").toString());
+		levels.add(level);
+		for (int i = 0; i < depth; i++) {
+			List<String> next = new ArrayList<>();
+			for (String managerId : level) {
+				for (int j = 0; j < span; j++) {
+					next.add(addIdentity(managerId, payloadSize, roleIds).get("id").toString());
+				}
+			}
+			levels.add(next);
+			level = next;
+		}
+		List<String> identityIds = new ArrayList<>(identities.keySet());
+		for (int i = 0; i < workgroupCount; i++) {
+			addWorkgroup(identityIds);
+		}
+		generateEntitlements(identityIds);
+		generatePolicyViolations(identityIds);
+	}
+
+	private Map<String, Object> addIdentity(String managerId, int payloadSize, List<String> roleIds) {
+		int number = ++sequence;
+		Map<String, Object> row = newRow(Identity.class, "user" + number);
+		row.put("displayName", "User " + number);
+		row.put("workgroup", false);
+		row.put("type", TYPES[random.nextInt(TYPES.length)]);
+		row.put("inactive", random.nextInt(20) == 0);
+		row.put("manager.id", managerId);
+		row.put("owner.id", null);
+		row.put("description", null);
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("email", "user" + number + "@example.com");
+		attributes.put("department", DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+		attributes.put("location", "Site " + random.nextInt(50));
+		attributes.put("payload", randomString(payloadSize));
+		row.put("attributes", attributes);
+		row.put("workgroups.id", new ArrayList<String>());
+		row.put("assignedRoles.id", pick(roleIds, 1 + random.nextInt(3)));
+		row.put("bundles.id", pick(roleIds, random.nextInt(3)));
+		identities.put(row.get("id").toString(), row);
+		return row;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addWorkgroup(List<String> identityIds) {
+		int number = workgroupIds.size() + 1;
+		Map<String, Object> row = newRow(Identity.class, "Workgroup " + number);
+		row.put("displayName", "Workgroup " + number);
+		row.put("workgroup", true);
+		row.put("type", null);
+		row.put("inactive", false);
+		row.put("manager.id", null);
+		row.put("owner.id", identityIds.get(random.nextInt(identityIds.size())));
+		row.put("description", "Synthetic workgroup " + number);
+		row.put("attributes", new HashMap<String, Object>());
+		row.put("workgroups.id", new ArrayList<String>());
+		row.put("assignedRoles.id", new ArrayList<String>());
+		row.put("bundles.id", new ArrayList<String>());
+		String id = row.get("id").toString();
+		// Power law like sizes, a few workgroups with many members
+		int size = Math.min(identityIds.size(), 2 + (int) (identityIds.size() * Math.pow(random.nextDouble(), 4) / 2));
+		for (String memberId : pick(identityIds, size)) {
+			((List<String>) identities.get(memberId).get("workgroups.id")).add(id);
+		}
+		identities.put(id, row);
+		workgroupIds.add(id);
+	}
+
+	private List<String> generateRoles(int count) {
+		List<String> ids = new ArrayList<>();
+		for (int i = 1; i <= count; i++) {
+			Map<String, Object> row = newRow(Bundle.class, "Role " + i);
+			row.put("displayName", (i % 3 == 0 ? null : "Business Role " + i));
+			row.put("owner.id", null);
+			ids.add(row.get("id").toString());
+		}
+		return ids;
+	}
+
+	private void generateEntitlements(List<String> identityIds) {
+		List<Map<String, Object>> roles = getTable(Bundle.class);
+		for (Map<String, Object> role : roles) {
+			role.put("owner.id", identityIds.get(random.nextInt(Math.min(identityIds.size(), 1 + identityIds.size() / 10))));
+		}
+		// Entitlements are owned by managers, the root owns the most
+		for (int i = 0; i < levels.size() - 1; i++) {
+			for (String ownerId : levels.get(i)) {
+				int count = random.nextInt(1 + 200 / (i + 1));
+				for (int j = 0; j < count; j++) {
+					int number = ++sequence;
+					Map<String, Object> row = newRow(ManagedAttribute.class, "CN=Group" + number + ",OU=Groups");
+					row.put("application.name", APPLICATIONS[random.nextInt(APPLICATIONS.length)]);
+					row.put("value", row.get("name"));
+					row.put("displayName", (random.nextBoolean() ? "Group " + number : null));
+					row.put("owner.id", ownerId);
+				}
+			}
+		}
+	}
+
+	private void generatePolicyViolations(List<String> identityIds) {
+		for (String identityId : identityIds) {
+			if (random.nextInt(10) == 0) {
+				for (int i = random.nextInt(3); i >= 0; i--) {
+					Map<String, Object> row = newRow(PolicyViolation.class, "Violation " + (++sequence));
+					row.put("identity.id", identityId);
+					row.put("active", random.nextInt(4) != 0);
+				}
+			}
+		}
+	}
+
+	private Map<String, Object> newRow(Class<? extends SailPointObject> clazz, String name) {
+		Map<String, Object> row = new HashMap<>();
+		row.put("id", String.format("%032x", random.nextLong() & Long.MAX_VALUE));
+		row.put("name", name);
+		row.put("created", created);
+		row.put("modified", null);
+		getTable(clazz).add(row);
+		return row;
+	}
+
+	private List<String> pick(List<String> ids, int count) {
+		List<String> result = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String id = ids.get(random.nextInt(ids.size()));
+			if (!result.contains(id)) {
+				result.add(id);
+			}
+		}
+		return result;
+	}
+
+	private String randomString(int length) {
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			sb.append(PAYLOAD_CHARS.charAt(random.nextInt(PAYLOAD_CHARS.length())));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Rows of the given class, created on first access
+	 *
+	 * @param clazz Class
+	 * @return List<Map<String, Object>>
+	 */
+	public List<Map<String, Object>> getTable(Class<?> clazz) {
+		return tables.computeIfAbsent(clazz, k -> new ArrayList<>());
+	}
+
+	public Map<String, Object> getIdentity(String id) {
+		return identities.get(id);
+	}
+
+	/**
+	 * Identity ids per level, level 0 holds the root
+	 *
+	 * @return List<List<String>>
+	 */
+	public List<List<String>> getLevels() {
+		return levels;
+	}
+
+	public List<String> getWorkgroupIds() {
+		return workgroupIds;
+	}
+
+	public int size() {
+		return identities.size();
+	}
+}
@@ -1,6 +1,16 @@
-import { Component, Inject } from '@angular/core';
+import { Component, Inject, OnDestroy } from '@angular/core';
 import { MAT_DIALOG_DATA } from '@angular/material/dialog';
 import { animate, state, style, transition, trigger } from '@angular/animations';
+import { Subject, Subscription } from 'rxjs';
+import { debounceTime, distinctUntilChanged } from 'rxjs/operators';
+import { DataService } from '../../services/data/data.service';
+
+// Endpoint of the further pages of each paged section
+const SECTION_PATHS: {[section: string]: string} = {
+  members: '/orgchart/members/',
+  ownedEntitlements: '/orgchart/ownedEntitlements/',
+  ownedRoles: '/orgchart/ownedRoles/'
+};
 
 @Component({
   selector: 'app-node-details',
@@ -14,10 +24,73 @@ import { animate, state, style, transition, trigger } from '@angular/animations'
     ]),
   ]
 })
-export class NodeDetailsComponent {
+export class NodeDetailsComponent implements OnDestroy {
 
   expandedElement: any;
+  loading: {[section: string]: boolean} = {};
+  memberPrefix: string = '';
+  private memberPrefixChanges = new Subject<string>();
+  private memberPrefixSubscription: Subscription;
+
+  constructor(
+    @Inject(MAT_DIALOG_DATA) public data: any,
+    private dataService: DataService
+  ) {
+    this.memberPrefixSubscription = this.memberPrefixChanges
+      .pipe(debounceTime(300), distinctUntilChanged())
+      .subscribe((prefix) => {
+        this.memberPrefix = prefix;
+        this.fetchPage('members', 0, true);
+      });
+  }
+
+  ngOnDestroy() {
+    this.memberPrefixSubscription.unsubscribe();
+  }
+
+  filterMembers = (prefix: string) => {
+    this.memberPrefixChanges.next(prefix.trim());
+  }
+
+  hasMore = (section: string) => {
+    const page = this.data.nodeDetails[section];
+    return page && page.items && page.items.length < page.total;
+  }
+
+  // Append the next page of the section
+  loadMore = (section: string) => {
+    const page = this.data.nodeDetails[section];
+    if (page && !this.loading[section]) {
+      this.fetchPage(section, page.items.length, false);
+    }
+  }
 
-  constructor(@Inject(MAT_DIALOG_DATA) public data: any) {}
+  // Load a page of the section, replace the items or append them to the loaded ones
+  private fetchPage = (section: string, offset: number, replace: boolean) => {
+    const page = this.data.nodeDetails[section];
+    if (!page) {
+      return;
+    }
+    this.loading[section] = true;
+    let path = `${SECTION_PATHS[section]}${this.data.nodeObj.id}?offset=${offset}&limit=${page.limit}`;
+    if (section === 'members' && this.memberPrefix) {
+      path += `&prefix=${encodeURIComponent(this.memberPrefix)}`;
+    }
+    const prefix = this.memberPrefix;
+    this.dataService.fetch(path).subscribe(res => {
+      this.loading[section] = false;
+      // A newer filter was entered meanwhile
+      if (section === 'members' && prefix !== this.memberPrefix) {
+        return;
+      }
+      if (res && res.body && res.body[section]) {
+        const next = res.body[section];
+        page.items = (replace ? next.items : page.items.concat(next.items));
+        page.total = next.total;
+      }
+    }, () => {
+      this.loading[section] = false;
+    });
+  }
 
-}
\ No newline at end of file
+}
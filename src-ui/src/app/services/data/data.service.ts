@@ -1,5 +1,5 @@
 import { Injectable } from '@angular/core';
-import { HttpClient, HttpErrorResponse, HttpHeaders } from '@angular/common/http';
+import { HttpClient, HttpErrorResponse, HttpHeaders, HttpResponse } from '@angular/common/http';
 import { Observable, Observer } from 'rxjs';
 import { environment } from './../../../environments/environment';
 import { MessageService } from '../message/message.service';
@@ -10,6 +10,37 @@ declare const PluginHelper: {
   getCurrentUsername: Function
 };
 
+const MAX_VALIDATED_RESPONSES = 200;
+// Node endpoints answer with the dictionary encoded format, see CompactNodeFormat
+const ACCEPT_COMPACT = 'application/vnd.orgchartplugin.compact+json, application/json';
+
+/**
+ * Decode compactNodes of a response body back into the node list: constants are copied to every node,
+ * string columns are looked up in the dictionary and value columns are taken as they are.
+ */
+export function decodeCompactNodes(compact: any): any[] {
+  const nodes = new Array(compact.size);
+  const dictionary: string[] = compact.dictionary;
+  const columns = Object.keys(compact.columns).map((key) => ({key: key, ...compact.columns[key]}));
+  for (let i = 0; i < compact.size; i++) {
+    const node = {...compact.constants};
+    for (const column of columns) {
+      const value = column.values[i];
+      if (value === null || value === undefined) {
+        node[column.key] = null;
+      } else if (column.encoding === 'string') {
+        node[column.key] = dictionary[value];
+      } else if (column.encoding === 'strings') {
+        node[column.key] = value.map((index: number) => dictionary[index]);
+      } else {
+        node[column.key] = value;
+      }
+    }
+    nodes[i] = node;
+  }
+  return nodes;
+}
+
 @Injectable({
   providedIn: 'root'
 })
@@ -18,6 +49,10 @@ export class DataService {
   pluginUrl: string = '';
   iiqUrl: string;
   currentUserName: string;
+  private iconUrls = new Map<string, string>();
+  // Last response text per url with its ETag, parsed again when the server answers 304 Not Modified,
+  // so every subscriber gets its own objects to modify
+  private validated = new Map<string, {etag: string, text: string}>();
 
   constructor(
     private http : HttpClient,
@@ -72,9 +107,24 @@ export class DataService {
       } else {
         headers = this.defaultHeadersDev();
       }
+      headers = headers.set('Accept', ACCEPT_COMPACT);
 
       if (method === 'get') {
-        this.http[method]<Request>(url, { headers : headers }).subscribe((res: any) => {
+        const cached = this.validated.get(url);
+        if (cached) {
+          headers = headers.set('If-None-Match', cached.etag);
+        }
+        this.http.get(url, { headers : headers, observe: 'response', responseType: 'text' }).subscribe((response: HttpResponse<string>) => {
+          const text = response.body;
+          const res = this.decode(text ? JSON.parse(text) : null);
+          const etag = response.headers.get('ETag');
+          if (etag && res) {
+            this.validated.delete(url);
+            this.validated.set(url, {etag: etag, text: text as string});
+            if (this.validated.size > MAX_VALIDATED_RESPONSES) {
+              this.validated.delete(this.validated.keys().next().value);
+            }
+          }
           if (res === null) {
             this.messages.showError("Response is null.");
           } else if (res['statusCodeValue'] && (res.statusCodeValue.toString().startsWith('2') === false) ) {
@@ -85,10 +135,16 @@ export class DataService {
           observer.next(res);
           observer.complete();
         }, (err: HttpErrorResponse) => {
-          this.messages.getErrorMessage(observer, err);
+          if (err.status === 304 && cached) {
+            observer.next(this.decode(JSON.parse(cached.text)));
+            observer.complete();
+            return;
+          }
+          this.messages.getErrorMessage(observer, this.parseError(err));
         })
       } else if (method === 'post') {
-        this.http[method]<Request>(url, filter, { headers : headers }).subscribe((res: any) => {
+        this.http[method]<Request>(url, filter, { headers : headers }).subscribe((body: any) => {
+          const res = this.decode(body);
           if (res === null) {
             this.messages.showError("Response is null.");
           } else if (res['statusCodeValue'] && (res.statusCodeValue.toString().startsWith('2') === false) ) {
@@ -105,6 +161,56 @@ export class DataService {
     });
   }
 
+  /**
+   * Load the icon thumbnail of an identity and return it as object url. The url contains the icon hash,
+   * so the browser cache can serve it and the object urls are reused for the same icon.
+   */
+  fetchIcon = (id: string, hash: string) => {
+    return new Observable((observer: Observer<string>) => {
+      const cached = this.iconUrls.get(hash);
+      if (cached) {
+        observer.next(cached);
+        observer.complete();
+        return;
+      }
+      const url = this.pluginUrl + '/orgchart/icon/' + id + '?v=' + hash;
+      let headers;
+      if (environment.production) {
+        headers = this.defaultHeaders();
+      } else {
+        headers = this.defaultHeadersDev();
+      }
+      this.http.get(url, { headers : headers, responseType: 'blob' }).subscribe((blob: Blob) => {
+        const objectUrl = URL.createObjectURL(blob);
+        this.iconUrls.set(hash, objectUrl);
+        observer.next(objectUrl);
+        observer.complete();
+      }, (err: HttpErrorResponse) => {
+        observer.error(err);
+      })
+    });
+  }
+
+  // Error bodies of text requests, parsed as the json requests do
+  private parseError = (err: HttpErrorResponse) => {
+    if (typeof err.error === 'string') {
+      try {
+        return {...err, message: err.message, name: err.name, error: JSON.parse(err.error)};
+      } catch (e) {
+        return err;
+      }
+    }
+    return err;
+  }
+
+  private decode = (res: any) => {
+    if (res && res.body && res.body.compactNodes) {
+      res.body.nodes = decodeCompactNodes(res.body.compactNodes);
+      delete res.body.compactNodes;
+    }
+    return res;
+  }
+
   getUserPreferences = () => {
     const path = '/orgchart/preference/' + this.currentUserName;
     this.fetch(path, null, 'get');
@@ -1,155 +1,833 @@
 package sailpoint.community.plugin.orgchartplugin.rest;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
 
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.StreamingOutput;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import sailpoint.api.SailPointContext;
+import sailpoint.api.SailPointFactory;
+import sailpoint.community.plugin.orgchartplugin.service.ClosureService;
+import sailpoint.community.plugin.orgchartplugin.service.CompactNodeFormat;
+import sailpoint.community.plugin.orgchartplugin.service.ConnectionService;
+import sailpoint.community.plugin.orgchartplugin.service.DetailService;
+import sailpoint.community.plugin.orgchartplugin.service.ExportService;
+import sailpoint.community.plugin.orgchartplugin.service.HierarchyIndex;
+import sailpoint.community.plugin.orgchartplugin.service.IconService;
 import sailpoint.community.plugin.orgchartplugin.service.IdentityService;
+import sailpoint.community.plugin.orgchartplugin.service.NativeConnectionService;
+import sailpoint.community.plugin.orgchartplugin.service.NodeCache;
 import sailpoint.community.plugin.orgchartplugin.service.PluginSettingService;
-import sailpoint.object.Identity;
-import sailpoint.object.Rule;
+import sailpoint.community.plugin.orgchartplugin.service.PluginSettings;
+import sailpoint.community.plugin.orgchartplugin.service.RequestMetrics;
+import sailpoint.community.plugin.orgchartplugin.service.RequestStatistics;
+import sailpoint.community.plugin.orgchartplugin.service.SearchIndex;
+import sailpoint.community.plugin.orgchartplugin.service.VersionService;
 import sailpoint.rest.plugin.BasePluginResource;
 import sailpoint.rest.plugin.RequiredRight;
 import sailpoint.tools.GeneralException;
+import sailpoint.tools.JsonHelper;
 import sailpoint.tools.Util;
 
 @Path("orgchartplugin")
 @RequiredRight("orgchartpluginRight")
 public class IdentityResource extends BasePluginResource {
+	
+	private static final int ICON_MAX_AGE_SECONDS = 24 * 60 * 60;
+	private static final String HEADER_SERVER_TIMING = "Server-Timing";
+	// The export contains the whole organization, it needs a right of its own
+	private static final String EXPORT_RIGHT = "orgchartpluginExportRight";
+	private static final String HEADER_CONTENT_TYPE_OPTIONS = "X-Content-Type-Options";
+	private static final String NOSNIFF = "nosniff";
+	private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+	private static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+	private static final String MEDIA_TYPE_CSV = "text/csv";
+	private static final String ENCODING_GZIP = "gzip";
+	// Stands in for the body when the envelope is serialized around a streamed body
+	private static final String BODY_PLACEHOLDER = "orgchartplugin:body";
+	private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+	private static final int MAX_TREE_DEPTH = 5;
+	private static final int MAX_BATCH_PARENTS = 5000;
+	private static final String ARG_PARENT_IDS = "parentIds";
+	private static final String ARG_DEPTH = "depth";
+	private static final String ARG_MAX_CHILDREN = "maxChildren";
+	private static final String FORMAT_JSON = "json";
 
+	/**
+	 * Return the nodes of the org chart around the identity. With maxChildren every list of reports and siblings 
+	 * is cut after maxChildren nodes and ends with a placeholder node carrying the remaining count and a cursor. 
+	 * Called with the cursor, the endpoint returns the next page of that list instead of the tree.
+	 * 
+	 * @param id String
+	 * @param depth int levels of reports, 1 if not set
+	 * @param maxChildren int maximum nodes per list of reports, all if not set
+	 * @param cursor String optional cursor of a placeholder node
+	 * @param format String compact for the dictionary encoded nodes, see CompactNodeFormat
+	 * @param accept String
+	 * @param acceptEncoding String
+	 * @return ResponseEntity<Map<String, Object>>
+	 */
 	@GET
 	@Path("orgchart/{id}")
 	@Produces(MediaType.APPLICATION_JSON)
-	public ResponseEntity<Map<String, Object>> getOrgChart(@PathParam("id") final String id) {
+	public Response getOrgChart(@PathParam("id") final String id, @QueryParam("depth") final int depth, 
+			@QueryParam("maxChildren") final int maxChildren, @QueryParam("cursor") final String cursor, 
+			@QueryParam("format") final String format, @HeaderParam(HttpHeaders.ACCEPT) final String accept, 
+			@HeaderParam(HttpHeaders.ACCEPT_ENCODING) final String acceptEncoding, @Context Request request) {
+		try (RequestMetrics.Request metrics = RequestMetrics.start("orgchart")) {
+			SailPointContext context = RequestMetrics.wrap(this.getContext(), metrics);
+			HttpStatus responseStatus = HttpStatus.OK;
+			String message = null;
+			List<Map<String, Object>> nodes = null;
+			EntityTag etag = null;
+			boolean compact = CompactNodeFormat.isRequested(format, accept);
+			boolean gzip = compact && acceptsGzip(acceptEncoding);
+			try {
+				PluginSettings settings = PluginSettingService.getSettings();
+				int treeDepth = Math.max(1, Math.min(depth, MAX_TREE_DEPTH));
+				if (Util.isNullOrEmpty(cursor)) {
+					RequestStatistics.record(NodeCache.TYPE_TREE, id, treeDepth, maxChildren);
+				}
+				etag = VersionService.getEntityTag(context, settings, "orgchart", id, String.valueOf(treeDepth), String.valueOf(maxChildren), cursor, 
+						getVariant(compact, gzip));
+				Response notModified = getNotModified(request, etag, metrics);
+				if (notModified != null) {
+					return notModified;
+				}
+				if (Util.isNotNullOrEmpty(cursor)) {
+					nodes = NodeCache.getInstance().get(NodeCache.TYPE_CHILDREN, cursor + ":" + maxChildren, settings, 
+							() -> IdentityService.getChildNodes(context, cursor, settings, maxChildren));
+				} else if (!HierarchyIndex.getIndex(context, id).contains(id)) {
+					// Not cacheable, the id may be known after the next refresh
+					etag = null;
+					responseStatus = HttpStatus.NOT_FOUND;
+					message = "Can not find identity object: " + id;
+				} else {
+					nodes = NodeCache.getInstance().get(NodeCache.TYPE_TREE, NodeCache.getTreeId(id, treeDepth, maxChildren), settings, 
+							() -> IdentityService.getTreeNodes(context, id, settings, treeDepth, maxChildren));
+				}
+			} catch (GeneralException e) {
+				responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+				message = e.getMessage();
+			
+			}
+			Map<String, Object> responseBody = new HashMap<String, Object>();
+			putNodes(responseBody, nodes, compact, metrics);
+			responseBody.put("message", message);
+			return withServerTiming(ResponseEntity.status(responseStatus).body(responseBody), metrics, etag, gzip);
+		}
+	}
+	
+	/**
+	 * Streaming variant of getOrgChart, every node is written to the response as soon as it is built 
+	 * instead of collecting the whole tree in memory. The JSON has the same shape as the ResponseEntity 
+	 * of getOrgChart, the status and message are written after the nodes.
+	 * 
+	 * @param id String
+	 * @return Response
+	 */
+	@GET
+	@Path("orgchart/stream/{id}")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response getOrgChartStream(@PathParam("id") final String id) {
+		SailPointContext baseContext = this.getContext();
+		PluginSettings settings = PluginSettingService.getSettings();
+		StreamingOutput stream = output -> {
+			// Headers are already sent, the timings only go into the metrics
+			try (RequestMetrics.Request metrics = RequestMetrics.start("stream")) {
+				SailPointContext context = RequestMetrics.wrap(baseContext, metrics);
+				Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+				// The envelope starts with the headers and the body, the status fields follow the body
+				writer.write(getEnvelopeJson(HttpStatus.OK)[0]);
+				writer.write("{\"nodes\":[");
+				HttpStatus responseStatus = HttpStatus.OK;
+				String message = null;
+				try {
+					AtomicBoolean first = new AtomicBoolean(true);
+					IdentityService.getTreeNodes(context, id, settings, node -> {
+						long start = System.nanoTime();
+						try {
+							if (!first.getAndSet(false)) {
+								writer.write(',');
+							}
+							writer.write(JsonHelper.toJson(node));
+						} catch (IOException e) {
+							throw new GeneralException(e);
+						} finally {
+							metrics.addStage("serialize", System.nanoTime() - start);
+						}
+					});
+				} catch (GeneralException e) {
+					responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+					message = e.getMessage();
+				}
+				writer.write("],\"message\":" + (message != null ? JsonHelper.toJson(message) : "null") + "}");
+				writer.write(getEnvelopeJson(responseStatus)[1]);
+				writer.flush();
+			}
+		};
+		return Response.ok(stream).build();
+	}
+
+	/**
+	 * Export the nodes of the whole organization in the card format of getOrgChart, as NDJSON (one node per line)
+	 * or CSV. The nodes are streamed while they are built, gzip compressed if the client accepts it. The export
+	 * needs orgchartpluginExportRight besides the right of the chart.
+	 *
+	 * @param format String ndjson (default) or csv
+	 * @param acceptEncoding String
+	 * @return Response
+	 */
+	@GET
+	@Path("orgchart/export")
+	@RequiredRight(EXPORT_RIGHT)
+	@Produces({ MEDIA_TYPE_NDJSON, MEDIA_TYPE_CSV })
+	public Response getExport(@QueryParam("format") final String format, @HeaderParam(HttpHeaders.ACCEPT_ENCODING) final String acceptEncoding) {
+		String exportFormat = (Util.isNotNullOrEmpty(format) ? format.toLowerCase() : ExportService.FORMAT_NDJSON);
+		if (!ExportService.isSupportedFormat(exportFormat)) {
+			return Response.status(Response.Status.BAD_REQUEST).entity("Unsupported export format: " + format).type(MediaType.TEXT_PLAIN).build();
+		}
+		boolean gzip = acceptsGzip(acceptEncoding);
+		PluginSettings settings = PluginSettingService.getSettings();
+		StreamingOutput stream = output -> {
+			// The export clears its session after every page, so it runs on its own context instead of the request context
+			SailPointContext exportContext = null;
+			try (RequestMetrics.Request metrics = RequestMetrics.start("export")) {
+				exportContext = SailPointFactory.createPrivateContext();
+				SailPointContext context = RequestMetrics.wrap(exportContext, metrics);
+				// Closing the writer must not close the response stream, the container ends or aborts the response
+				OutputStream entity = new FilterOutputStream(output) {
+					@Override
+					public void write(byte[] b, int off, int len) throws IOException {
+						out.write(b, off, len);
+					}
+
+					@Override
+					public void close() throws IOException {
+						flush();
+					}
+				};
+				OutputStream out = (gzip ? new GZIPOutputStream(entity, EXPORT_BUFFER_SIZE) : entity);
+				Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+				try {
+					ExportService.export(context, settings, exportFormat, writer);
+				} finally {
+					writer.close();
+				}
+			} catch (GeneralException e) {
+				// Headers are already sent, abort the chunked response so the client does not take the file as complete
+				ExportService.logger.error("Failed to export org chart: " + e.getMessage(), e);
+				throw new IOException("Failed to export org chart: " + e.getMessage(), e);
+			} finally {
+				if (exportContext != null) {
+					try {
+						SailPointFactory.releasePrivateContext(exportContext);
+					} catch (GeneralException e) {
+						ExportService.logger.warn("Failed to release export context: " + e.getMessage());
+					}
+				}
+			}
+		};
+		ResponseBuilder response = Response.ok(stream, ExportService.FORMAT_CSV.equals(exportFormat) ? MEDIA_TYPE_CSV : MEDIA_TYPE_NDJSON)
+				.header("Content-Disposition", "attachment; filename=\"orgchart." + exportFormat + "\"");
+		if (gzip) {
+			response.header(HttpHeaders.CONTENT_ENCODING, ENCODING_GZIP);
+		}
+		return response.build();
+	}
+
+	/**
+	 * Return the icon image of the identity as PNG thumbnail. The ETag is derived from the icon value, 
+	 * so the browser can cache the image and revalidate it with If-None-Match. Values which are no 
+	 * raster image are answered with 415 Unsupported Media Type.
+	 * 
+	 * @param id String
+	 * @param size int maximum width and height in pixels
+	 * @param request Request
+	 * @return Response
+	 */
+	@GET
+	@Path("orgchart/icon/{id}")
+	@Produces(IconService.MIME_TYPE)
+	public Response getIcon(@PathParam("id") final String id, @QueryParam("size") final int size, @Context Request request) {
 		SailPointContext context = this.getContext();
-		HttpStatus responseStatus = HttpStatus.OK;
-		String message = null;
-		List<Map<String, Object>> nodes = null;
+		CacheControl cacheControl = new CacheControl();
+		cacheControl.setPrivate(true);
+		cacheControl.setMaxAge(ICON_MAX_AGE_SECONDS);
 		try {
-			nodes = IdentityService.getTreeNodes(context, id);
+			String iconImg = IconService.getIconImg(context, id, PluginSettingService.getSettings());
+			if (iconImg == null) {
+				return Response.status(Response.Status.NOT_FOUND).header(HEADER_CONTENT_TYPE_OPTIONS, NOSNIFF).build();
+			}
+			EntityTag etag = new EntityTag(IconService.getIconHash(iconImg) + "-" + size);
+			ResponseBuilder notModified = request.evaluatePreconditions(etag);
+			if (notModified != null) {
+				return notModified.cacheControl(cacheControl).header(HEADER_CONTENT_TYPE_OPTIONS, NOSNIFF).build();
+			}
+			IconService.Icon icon = IconService.getIcon(id, iconImg, size);
+			if (icon == null) {
+				return Response.status(Response.Status.UNSUPPORTED_MEDIA_TYPE).header(HEADER_CONTENT_TYPE_OPTIONS, NOSNIFF).build();
+			}
+			return Response.ok(icon.getBytes(), IconService.MIME_TYPE).tag(etag).cacheControl(cacheControl)
+					.header(HEADER_CONTENT_TYPE_OPTIONS, NOSNIFF).build();
 		} catch (GeneralException e) {
-			responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
-			message = e.getMessage();
-			
+			IconService.logger.error("Failed to load icon of " + id + ": " + e.getMessage());
+			return Response.serverError().header(HEADER_CONTENT_TYPE_OPTIONS, NOSNIFF).build();
 		}
-		Map<String, Object> responseBody = new HashMap<String, Object>();
-		responseBody.put("nodes", nodes);
-		responseBody.put("message", message);
-		return ResponseEntity.status(responseStatus).body(responseBody);
 	}
 	
-	@SuppressWarnings("unchecked")
+	/**
+	 * Return the connections calculated by the Connection Rule or, with the native connection engine, the identities 
+	 * sharing a workgroup or role. With newNodeIds in the payload the rule only evaluates the pairs involving the new nodes, 
+	 * the other pairs are served from the cache.
+	 * 
+	 * @param payload Map<String, Object> with allNodeIds and optional newNodeIds
+	 * @return ResponseEntity<Map<String, Object>>
+	 */
 	@POST
 	@Path("orgchart/connections")
 	@Produces(MediaType.APPLICATION_JSON)
-	public ResponseEntity<Map<String, Object>> getConnections(Map<String, Object> payload) {
-		SailPointContext context = this.getContext();
-		List<Map<String, Object>> connections = new ArrayList<>();
-		HttpStatus responseStatus = HttpStatus.OK;
-		String message = null;
-		String ruleName = PluginSettingService.getSettingConnectionRule();
-		try {
-			if (Util.isNotNullOrEmpty(ruleName)) {
-				if (payload.containsKey("allNodeIds")) {
-					Rule rule = context.getObjectByName(Rule.class, ruleName);
-					if (rule != null) {
-						connections = (List<Map<String, Object>>) context.runRule(rule, payload);
+	public Response getConnections(Map<String, Object> payload) {
+		try (RequestMetrics.Request metrics = RequestMetrics.start("connections")) {
+			SailPointContext context = RequestMetrics.wrap(this.getContext(), metrics);
+			List<Map<String, Object>> connections = new ArrayList<>();
+			HttpStatus responseStatus = HttpStatus.OK;
+			String message = null;
+			String ruleName = PluginSettingService.getSettingConnectionRule();
+			try {
+				if (NativeConnectionService.ENGINE_NATIVE.equals(PluginSettingService.getSettingConnectionEngine())) {
+					if (payload.containsKey(ConnectionService.ARG_ALL_NODE_IDS)) {
+						connections = NativeConnectionService.getConnections(context, Util.otol(payload.get(ConnectionService.ARG_ALL_NODE_IDS)));
 					} else {
-						responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
-						message = "Can not retrieve Connection Rule object: " + ruleName;
+						responseStatus = HttpStatus.BAD_REQUEST;
+						message = "allNodeIds is missing";
+					}
+				} else if (Util.isNotNullOrEmpty(ruleName)) {
+					if (payload.containsKey(ConnectionService.ARG_ALL_NODE_IDS)) {
+						connections = ConnectionService.getConnections(context, ruleName, payload);
+					} else {
+						responseStatus = HttpStatus.BAD_REQUEST;
+						message = "allNodeIds is missing";
 					}
 				} else {
-					responseStatus = HttpStatus.BAD_REQUEST;
-					message = "allNodeIds is missing";
+					message = "No rule Connection Rule defined";
 				}
-			} else {
-				message = "No rule Connection Rule defined";
+			} catch (GeneralException e) {
+				responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+				message = e.getMessage();
 			}
-		} catch (GeneralException e) {
-			responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
-			message = e.getMessage();
+			Map<String, Object> responseBody = new HashMap<String, Object>();
+			responseBody.put("connections", connections);
+			responseBody.put("message", message);
+			return withServerTiming(ResponseEntity.status(responseStatus).body(responseBody), metrics);
 		}
-		Map<String, Object> responseBody = new HashMap<String, Object>();
-		responseBody.put("connections", connections);
-		responseBody.put("message", message);
-		return ResponseEntity.status(responseStatus).body(responseBody);
 	}
 	
 	@GET
 	@Path("orgchart/manages/{id}")
 	@Produces(MediaType.APPLICATION_JSON)
-	public ResponseEntity<Map<String, Object>> getManages(@PathParam("id") final String id) {
-		SailPointContext context = this.getContext();
-		HttpStatus responseStatus = HttpStatus.OK;
-		String message = null;
-		List<Map<String, Object>> nodes = new ArrayList<>();
-		try {
-			List<String> childs = IdentityService.getChilds(context, id);
-			for (String _id : Util.safeIterable(childs)) {
-				Identity node = context.getObjectById(Identity.class, _id);
-				nodes.add(IdentityService.getNodeMap(context, node, null));
+	public Response getManages(@PathParam("id") final String id, @QueryParam("maxChildren") final int maxChildren, 
+			@QueryParam("format") final String format, @HeaderParam(HttpHeaders.ACCEPT) final String accept, 
+			@HeaderParam(HttpHeaders.ACCEPT_ENCODING) final String acceptEncoding, @Context Request request) {
+		try (RequestMetrics.Request metrics = RequestMetrics.start("manages")) {
+			SailPointContext context = RequestMetrics.wrap(this.getContext(), metrics);
+			HttpStatus responseStatus = HttpStatus.OK;
+			String message = null;
+			List<Map<String, Object>> nodes = new ArrayList<>();
+			EntityTag etag = null;
+			boolean compact = CompactNodeFormat.isRequested(format, accept);
+			boolean gzip = compact && acceptsGzip(acceptEncoding);
+			try {
+				PluginSettings settings = PluginSettingService.getSettings();
+				RequestStatistics.record(NodeCache.TYPE_MANAGES, id, 0, maxChildren);
+				etag = VersionService.getEntityTag(context, settings, "manages", id, String.valueOf(maxChildren), getVariant(compact, gzip));
+				Response notModified = getNotModified(request, etag, metrics);
+				if (notModified != null) {
+					return notModified;
+				}
+				nodes = NodeCache.getInstance().get(NodeCache.TYPE_MANAGES, NodeCache.getManagesId(id, maxChildren), settings,
+						() -> IdentityService.getChildNodes(context, id, 0, settings, maxChildren));
+			} catch (GeneralException e) {
+				responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+				message = e.getMessage();
 			}
-		} catch (GeneralException e) {
-			responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
-			message = e.getMessage();
+			Map<String, Object> responseBody = new HashMap<String, Object>();
+			putNodes(responseBody, nodes, compact, metrics);
+			responseBody.put("message", message);
+			return withServerTiming(ResponseEntity.status(responseStatus).body(responseBody), metrics, etag, gzip);
+		}
+	}
+	
+	/**
+	 * Return the reports and owned workgroups of several managers in one response, e.g. for expand all. 
+	 * Nodes reachable from more than one manager are returned once.
+	 * 
+	 * @param payload Map<String, Object> with parentIds, optional depth (levels of reports, default 1) and maxChildren
+	 * @param format String compact for the dictionary encoded nodes, see CompactNodeFormat
+	 * @param accept String
+	 * @param acceptEncoding String
+	 * @return ResponseEntity<Map<String, Object>>
+	 */
+	@POST
+	@Path("orgchart/manages")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response getManagesBatch(Map<String, Object> payload, @QueryParam("format") final String format, 
+			@HeaderParam(HttpHeaders.ACCEPT) final String accept, @HeaderParam(HttpHeaders.ACCEPT_ENCODING) final String acceptEncoding) {
+		try (RequestMetrics.Request metrics = RequestMetrics.start("managesBatch")) {
+			SailPointContext context = RequestMetrics.wrap(this.getContext(), metrics);
+			HttpStatus responseStatus = HttpStatus.OK;
+			String message = null;
+			List<Map<String, Object>> nodes = new ArrayList<>();
+			List<String> parentIds = (payload != null ? Util.otol(payload.get(ARG_PARENT_IDS)) : null);
+			if (Util.isEmpty(parentIds)) {
+				responseStatus = HttpStatus.BAD_REQUEST;
+				message = "parentIds is missing";
+			} else if (parentIds.size() > MAX_BATCH_PARENTS) {
+				responseStatus = HttpStatus.BAD_REQUEST;
+				message = "More than " + MAX_BATCH_PARENTS + " parentIds";
+			} else {
+				try {
+					PluginSettings settings = PluginSettingService.getSettings();
+					int depth = Math.max(1, Math.min(Util.otoi(payload.get(ARG_DEPTH)), MAX_TREE_DEPTH));
+					int maxChildren = Util.otoi(payload.get(ARG_MAX_CHILDREN));
+					nodes = IdentityService.getChildNodes(context, parentIds, depth, settings, maxChildren);
+				} catch (GeneralException e) {
+					responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+					message = e.getMessage();
+				}
+			}
+			boolean compact = CompactNodeFormat.isRequested(format, accept);
+			Map<String, Object> responseBody = new HashMap<String, Object>();
+			putNodes(responseBody, nodes, compact, metrics);
+			responseBody.put("message", message);
+			return withServerTiming(ResponseEntity.status(responseStatus).body(responseBody), metrics, null, compact && acceptsGzip(acceptEncoding));
 		}
-		Map<String, Object> responseBody = new HashMap<String, Object>();
-		responseBody.put("nodes", nodes);
-		responseBody.put("message", message);
-		return ResponseEntity.status(responseStatus).body(responseBody);
 	}
 	
+	/**
+	 * Return the details of the identity or workgroup. The workgroup members, owned entitlements and owned roles 
+	 * contain the total count and the first page of items, the further pages are loaded per section from 
+	 * orgchart/members, orgchart/ownedEntitlements and orgchart/ownedRoles.
+	 * 
+	 * @param id String
+	 * @param type String
+	 * @return ResponseEntity<Map<String, Object>>
+	 */
 	@GET
 	@Path("orgchart/details/{type}/{id}")
 	@Produces(MediaType.APPLICATION_JSON)
-	public ResponseEntity<Map<String, Object>> getDetails(@PathParam("id") final String id, @PathParam("type") final String type) {
-		SailPointContext context = this.getContext();
-		HttpStatus responseStatus = HttpStatus.OK;
-		String message = null;
-		Map<String, Object> details = new HashMap<>();
-		try {
-			Identity identity = context.getObjectById(Identity.class, id);
-			if (identity != null) {
-				if (identity.isWorkgroup()) {
-					details.put("members", IdentityService.getMembers(context, identity, "displayName"));
+	public Response getDetails(@PathParam("id") final String id, @PathParam("type") final String type, @Context Request request) {
+		try (RequestMetrics.Request metrics = RequestMetrics.start("details")) {
+			SailPointContext context = RequestMetrics.wrap(this.getContext(), metrics);
+			HttpStatus responseStatus = HttpStatus.OK;
+			String message = null;
+			Map<String, Object> details = new HashMap<>();
+			EntityTag etag = null;
+			try {
+				etag = VersionService.getDetailsEntityTag(context, PluginSettingService.getSettings(), type, id);
+				Response notModified = getNotModified(request, etag, metrics);
+				if (notModified != null) {
+					return notModified;
+				}
+				HierarchyIndex index = HierarchyIndex.getIndex(context, id);
+				if (!index.contains(id)) {
+					// Not cacheable, the id may be known after the next refresh
+					etag = null;
+					responseStatus = HttpStatus.NOT_FOUND;
+					message = "Can not retrieve identity object: " + id;
 				} else {
-					details.put("attributes", IdentityService.getIdentityDetailAttributes(context, identity));
-					details.put("roleAssignments", IdentityService.getActiveRoleAssignments(context, identity));
-					details.put("policyViolations", IdentityService.getPolicyViolations(context, identity));
-					List<Identity> workgroups = identity.getWorkgroups();
-					List<String> workgroupNames= new ArrayList<>();
-					if (Util.nullSafeSize(workgroups) > 0) {
-						workgroupNames = workgroups.stream().map(Identity::getName).collect(Collectors.toList());
-						Collections.sort(workgroupNames);
+					// Independent sections, loaded in parallel each with its own context, only "identity" loads the Identity
+					Map<String, DetailService.Section> sections = new LinkedHashMap<>();
+					if (index.isWorkgroup(id)) {
+						sections.put("members", (ctx, workgroupId) -> IdentityService.getMembers(ctx, workgroupId, null, 0, 0));
+					} else {
+						sections.put("identity", IdentityService::getIdentityDetails);
+						sections.put("policyViolations", IdentityService::getPolicyViolations);
+						sections.put("workgroups", IdentityService::getWorkgroupNames);
 					}
-					details.put("workgroups", workgroupNames);
-				}	
-			} else {
-				throw new GeneralException("Can not retrieve identity object: " + id);
+					sections.put("ownedEntitlements", (ctx, ownerId) -> IdentityService.getOwnedEntitlements(ctx, ownerId, 0, 0));
+					sections.put("ownedRoles", (ctx, ownerId) -> IdentityService.getOwnedRoles(ctx, ownerId, 0, 0));
+					details = DetailService.getDetails(id, sections);
+				}
+			} catch (GeneralException e) {
+				responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+				message = e.getMessage();
 			}
-			details.put("ownedEntitlements", IdentityService.getOwnedEntitlements(context, identity));
-			details.put("ownedRoles", IdentityService.getOwnedRoles(context, identity));
-		} catch (GeneralException e) {
-			responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
-			message = e.getMessage();
+			Map<String, Object> responseBody = new HashMap<String, Object>();
+			responseBody.put("details", details);
+			responseBody.put("message", message);
+			return withServerTiming(ResponseEntity.status(responseStatus).body(responseBody), metrics, etag);
+		}
+	}
+
+	/**
+	 * Return one page of the workgroup members sorted by display name
+	 * 
+	 * @param id String workgroup id
+	 * @param prefix String optional name or display name prefix
+	 * @param offset int
+	 * @param limit int
+	 * @return ResponseEntity<Map<String, Object>>
+	 */
+	@GET
+	@Path("orgchart/members/{id}")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response getMembers(@PathParam("id") final String id, @QueryParam("prefix") final String prefix,
+			@QueryParam("offset") final int offset, @QueryParam("limit") final int limit) {
+		try (RequestMetrics.Request metrics = RequestMetrics.start("members")) {
+			SailPointContext context = RequestMetrics.wrap(this.getContext(), metrics);
+			HttpStatus responseStatus = HttpStatus.OK;
+			String message = null;
+			Map<String, Object> members = null;
+			try {
+				members = IdentityService.getMembers(context, id, prefix, offset, limit);
+			} catch (GeneralException e) {
+				responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+				message = e.getMessage();
+			}
+			Map<String, Object> responseBody = new HashMap<String, Object>();
+			responseBody.put("members", members);
+			responseBody.put("message", message);
+			return withServerTiming(ResponseEntity.status(responseStatus).body(responseBody), metrics);
+		}
+	}
+
+	/**
+	 * Return one page of the entitlements owned by the identity or workgroup
+	 * 
+	 * @param id String owner id
+	 * @param offset int
+	 * @param limit int
+	 * @return ResponseEntity<Map<String, Object>>
+	 */
+	@GET
+	@Path("orgchart/ownedEntitlements/{id}")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response getOwnedEntitlements(@PathParam("id") final String id, @QueryParam("offset") final int offset, 
+			@QueryParam("limit") final int limit) {
+		try (RequestMetrics.Request metrics = RequestMetrics.start("ownedEntitlements")) {
+			SailPointContext context = RequestMetrics.wrap(this.getContext(), metrics);
+			HttpStatus responseStatus = HttpStatus.OK;
+			String message = null;
+			Map<String, Object> ownedEntitlements = null;
+			try {
+				ownedEntitlements = IdentityService.getOwnedEntitlements(context, id, offset, limit);
+			} catch (GeneralException e) {
+				responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+				message = e.getMessage();
+			}
+			Map<String, Object> responseBody = new HashMap<String, Object>();
+			responseBody.put("ownedEntitlements", ownedEntitlements);
+			responseBody.put("message", message);
+			return withServerTiming(ResponseEntity.status(responseStatus).body(responseBody), metrics);
 		}
+	}
+
+	/**
+	 * Return one page of the roles owned by the identity or workgroup
+	 * 
+	 * @param id String owner id
+	 * @param offset int
+	 * @param limit int
+	 * @return ResponseEntity<Map<String, Object>>
+	 */
+	@GET
+	@Path("orgchart/ownedRoles/{id}")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response getOwnedRoles(@PathParam("id") final String id, @QueryParam("offset") final int offset, 
+			@QueryParam("limit") final int limit) {
+		try (RequestMetrics.Request metrics = RequestMetrics.start("ownedRoles")) {
+			SailPointContext context = RequestMetrics.wrap(this.getContext(), metrics);
+			HttpStatus responseStatus = HttpStatus.OK;
+			String message = null;
+			Map<String, Object> ownedRoles = null;
+			try {
+				ownedRoles = IdentityService.getOwnedRoles(context, id, offset, limit);
+			} catch (GeneralException e) {
+				responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+				message = e.getMessage();
+			}
+			Map<String, Object> responseBody = new HashMap<String, Object>();
+			responseBody.put("ownedRoles", ownedRoles);
+			responseBody.put("message", message);
+			return withServerTiming(ResponseEntity.status(responseStatus).body(responseBody), metrics);
+		}
+	}
+
+	/**
+	 * Search identities and workgroups by the words of their name, display name and card attributes. 
+	 * The matches are ranked and carry their manager chain, so the chart can open any match directly.
+	 * building is true while the index is built in the background, the matches are empty until the first build is done.
+	 * 
+	 * @param query String
+	 * @param limit int maximum number of matches
+	 * @return ResponseEntity<Map<String, Object>>
+	 */
+	@GET
+	@Path("orgchart/search")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response search(@QueryParam("q") final String query, @QueryParam("limit") final int limit) {
+		try (RequestMetrics.Request metrics = RequestMetrics.start("search")) {
+			SailPointContext context = RequestMetrics.wrap(this.getContext(), metrics);
+			HttpStatus responseStatus = HttpStatus.OK;
+			String message = null;
+			Map<String, Object> result = null;
+			try {
+				SearchIndex index = SearchIndex.getIndex();
+				if (index != null) {
+					result = RequestMetrics.time("search", () -> index.search(context, query, limit));
+				} else {
+					// The first build runs in the background, nothing to search yet
+					result = new HashMap<String, Object>();
+					result.put("total", 0);
+					result.put("matches", new ArrayList<>());
+				}
+				result.put("building", SearchIndex.isBuilding());
+			} catch (GeneralException e) {
+				responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+				message = e.getMessage();
+			}
+			Map<String, Object> responseBody = new HashMap<String, Object>();
+			responseBody.put("search", result);
+			responseBody.put("message", message);
+			return withServerTiming(ResponseEntity.status(responseStatus).body(responseBody), metrics);
+		}
+	}
+
+	/**
+	 * Return the headcount, the ancestor chain and the reports down to the given depth from the closure table.
+	 * available is false until the Org Chart Closure Table task has processed the identity.
+	 *
+	 * @param id String
+	 * @param depth int levels of reports, 1 if not set
+	 * @param limit int maximum number of reports
+	 * @return ResponseEntity<Map<String, Object>>
+	 */
+	@GET
+	@Path("orgchart/hierarchy/{id}")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response getHierarchy(@PathParam("id") final String id, @QueryParam("depth") final int depth,
+			@QueryParam("limit") final int limit) {
+		try (RequestMetrics.Request metrics = RequestMetrics.start("hierarchy")) {
+			HttpStatus responseStatus = HttpStatus.OK;
+			String message = null;
+			Map<String, Object> hierarchy = null;
+			try {
+				hierarchy = RequestMetrics.time("closure", () -> ClosureService.getHierarchy(id, depth, limit));
+			} catch (GeneralException e) {
+				responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+				message = e.getMessage();
+			}
+			Map<String, Object> responseBody = new HashMap<String, Object>();
+			responseBody.put("hierarchy", hierarchy);
+			responseBody.put("message", message);
+			return withServerTiming(ResponseEntity.status(responseStatus).body(responseBody), metrics);
+		}
+	}
+
+	@GET
+	@Path("orgchart/cache/stats")
+	@Produces(MediaType.APPLICATION_JSON)
+	public ResponseEntity<Map<String, Object>> getCacheStatistics() {
 		Map<String, Object> responseBody = new HashMap<String, Object>();
-		responseBody.put("details", details);
-		responseBody.put("message", message);
-		return ResponseEntity.status(responseStatus).body(responseBody);
+		responseBody.put("statistics", NodeCache.getInstance().getStatistics());
+		responseBody.put("message", null);
+		return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+	}
+
+	/**
+	 * Return the request metrics of the plugin endpoints in Prometheus text format
+	 * 
+	 * @return Response
+	 */
+	@GET
+	@Path("orgchart/metrics")
+	@Produces(MediaType.TEXT_PLAIN)
+	public Response getMetrics() {
+		return Response.ok(RequestMetrics.toPrometheus(), PROMETHEUS_CONTENT_TYPE).build();
+	}
+	
+	/**
+	 * Wrap the response entity to add the Server-Timing header of the measured request. 
+	 * The HTTP status stays 200, the UI evaluates the status code of the entity.
+	 * 
+	 * @param entity ResponseEntity<Map<String, Object>>
+	 * @param metrics Request
+	 * @return Response
+	 */
+	private static Response withServerTiming(ResponseEntity<Map<String, Object>> entity, RequestMetrics.Request metrics) {
+		return withServerTiming(entity, metrics, null);
+	}
+
+	/**
+	 * Like withServerTiming, with the ETag of the response if it was built successfully. The browser has to 
+	 * revalidate the response on every use, the DataService sends the ETag back with If-None-Match.
+	 * 
+	 * @param entity ResponseEntity<Map<String, Object>>
+	 * @param metrics Request
+	 * @param etag EntityTag null for none
+	 * @return Response
+	 */
+	private static Response withServerTiming(ResponseEntity<Map<String, Object>> entity, RequestMetrics.Request metrics, EntityTag etag) {
+		ResponseBuilder builder = Response.ok(entity).header(HEADER_SERVER_TIMING, metrics.getServerTiming());
+		if (etag != null && entity.getStatusCode() == HttpStatus.OK) {
+			builder.tag(etag).cacheControl(getRevalidateCacheControl());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Like withServerTiming for the node endpoints, which vary by the Accept and Accept-Encoding headers. 
+	 * With gzip the entity is serialized in the JSON shape of the ResponseEntity and compressed.
+	 * 
+	 * @param entity ResponseEntity<Map<String, Object>>
+	 * @param metrics Request
+	 * @param etag EntityTag null for none
+	 * @param gzip boolean
+	 * @return Response
+	 */
+	private static Response withServerTiming(ResponseEntity<Map<String, Object>> entity, RequestMetrics.Request metrics, EntityTag etag, 
+			boolean gzip) {
+		ResponseBuilder builder;
+		if (gzip) {
+			long start = System.nanoTime();
+			byte[] bytes = toGzipJson(entity);
+			metrics.addStage("gzip", System.nanoTime() - start);
+			builder = Response.ok(bytes, MediaType.APPLICATION_JSON).header(HttpHeaders.CONTENT_ENCODING, ENCODING_GZIP);
+		} else {
+			builder = Response.ok(entity);
+		}
+		builder.header(HEADER_SERVER_TIMING, metrics.getServerTiming()).header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+		if (etag != null && entity.getStatusCode() == HttpStatus.OK) {
+			builder.tag(etag).cacheControl(getRevalidateCacheControl());
+		}
+		return builder.build();
+	}
+
+	private static byte[] toGzipJson(ResponseEntity<Map<String, Object>> entity) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+			writer.write(JsonHelper.toJson(toEnvelope(entity.getBody(), entity.getStatusCode())));
+		} catch (IOException e) {
+			// Not expected writing to memory
+			throw new IllegalStateException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Return the JSON shape in which the ResponseEntity is sent, the UI reads the body and statusCodeValue
+	 * 
+	 * @param body Object
+	 * @param status HttpStatus
+	 * @return Map<String, Object>
+	 */
+	private static Map<String, Object> toEnvelope(Object body, HttpStatus status) {
+		Map<String, Object> envelope = new LinkedHashMap<>();
+		envelope.put("headers", new HashMap<>());
+		envelope.put("body", body);
+		envelope.put("statusCode", status.name());
+		envelope.put("statusCodeValue", status.value());
+		return envelope;
+	}
+
+	/**
+	 * Return the JSON of the envelope split at the body, for the endpoints which stream the body in between
+	 * 
+	 * @param status HttpStatus
+	 * @return String[] the JSON before and after the body
+	 */
+	private static String[] getEnvelopeJson(HttpStatus status) {
+		String json = JsonHelper.toJson(toEnvelope(BODY_PLACEHOLDER, status));
+		String placeholder = JsonHelper.toJson(BODY_PLACEHOLDER);
+		int pos = json.indexOf(placeholder);
+		return new String[] { json.substring(0, pos), json.substring(pos + placeholder.length()) };
+	}
+
+	/**
+	 * Put the nodes into the response body, dictionary encoded as compactNodes if the compact format is requested
+	 * 
+	 * @param responseBody Map<String, Object>
+	 * @param nodes List<Map<String, Object>>
+	 * @param compact boolean
+	 * @param metrics Request
+	 */
+	private static void putNodes(Map<String, Object> responseBody, List<Map<String, Object>> nodes, boolean compact, RequestMetrics.Request metrics) {
+		if (compact && nodes != null) {
+			long start = System.nanoTime();
+			responseBody.put("compactNodes", CompactNodeFormat.encode(nodes));
+			metrics.addStage("compact", System.nanoTime() - start);
+		} else {
+			responseBody.put("nodes", nodes);
+		}
+	}
+
+	private static boolean acceptsGzip(String acceptEncoding) {
+		return (acceptEncoding != null && acceptEncoding.toLowerCase().contains(ENCODING_GZIP));
+	}
+
+	/**
+	 * Part of the ETag, the representations of the same nodes need different tags
+	 */
+	private static String getVariant(boolean compact, boolean gzip) {
+		return (compact ? CompactNodeFormat.FORMAT : FORMAT_JSON) + (gzip ? "+" + ENCODING_GZIP : "");
+	}
+
+	/**
+	 * Return 304 Not Modified if the request carries the ETag in If-None-Match, null to build the response
+	 * 
+	 * @param request Request
+	 * @param etag EntityTag null if conditional requests are disabled
+	 * @param metrics Request
+	 * @return Response
+	 */
+	private static Response getNotModified(Request request, EntityTag etag, RequestMetrics.Request metrics) {
+		if (etag == null) {
+			return null;
+		}
+		ResponseBuilder notModified = request.evaluatePreconditions(etag);
+		if (notModified == null) {
+			return null;
+		}
+		return notModified.cacheControl(getRevalidateCacheControl()).header(HEADER_SERVER_TIMING, metrics.getServerTiming()).build();
+	}
+
+	private static CacheControl getRevalidateCacheControl() {
+		CacheControl cacheControl = new CacheControl();
+		cacheControl.setPrivate(true);
+		cacheControl.setNoCache(true);
+		return cacheControl;
 	}
 
 	@Override
@@ -16,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import sailpoint.api.SailPointContext;
+import sailpoint.community.plugin.orgchartplugin.service.HierarchyIndex;
 import sailpoint.community.plugin.orgchartplugin.service.PluginSettingService;
 import sailpoint.object.Identity;
 import sailpoint.rest.plugin.BasePluginResource;
@@ -40,6 +41,8 @@ public class PluginSettingResource extends BasePluginResource {
 		Map<String, Object> responseBody = new HashMap<String, Object>();
 		responseBody.put("preference", preferenceMap);
 		responseBody.put("nodeTypes", PluginSettingService.getNodeTypes(context, "en_US"));
+		// Loaded when the page opens, the hierarchy is built meanwhile
+		HierarchyIndex.prepare();
 		return ResponseEntity.status(HttpStatus.OK).body(responseBody);
 	}
 	
@@ -0,0 +1,177 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.api.SailPointFactory;
+import sailpoint.tools.GeneralException;
+
+/**
+ * Builds node lists ahead of the requests and stores them in the NodeCache.
+ *
+ * The warm set consists of the most requested trees and report lists of the RequestStatistics and of the trees
+ * and report lists of the managers in the first levels below the top of the hierarchy. The targets are built by
+ * parallel workers, each on its own SailPointContext, until all are built, the time budget is used up or the
+ * warming is terminated.
+ */
+public class CacheWarmingService {
+
+	public static final Log logger = LogFactory.getLog(CacheWarmingService.class);
+
+	/**
+	 * Counts of one warming run
+	 */
+	public static class WarmResult {
+		private final int warmed;
+		private final int failed;
+		private final int skipped;
+
+		private WarmResult(int warmed, int failed, int skipped) {
+			this.warmed = warmed;
+			this.failed = failed;
+			this.skipped = skipped;
+		}
+
+		public int getWarmed() {
+			return warmed;
+		}
+
+		public int getFailed() {
+			return failed;
+		}
+
+		public int getSkipped() {
+			return skipped;
+		}
+	}
+
+	/**
+	 * Return the targets to warm: the topRequests most requested targets followed by the tree and the reports
+	 * of every manager in the first levels of the hierarchy, the top managers being level 1
+	 *
+	 * @param index HierarchyIndex
+	 * @param topRequests int
+	 * @param levels int
+	 * @param maxChildren int maxChildren of the hierarchy targets, as requested by the UI
+	 * @return List<RequestStatistics.Target>
+	 */
+	public static List<RequestStatistics.Target> getWarmSet(HierarchyIndex index, int topRequests, int levels, int maxChildren) {
+		Set<RequestStatistics.Target> targets = new LinkedHashSet<>();
+		for (RequestStatistics.Target target : RequestStatistics.getTop(topRequests)) {
+			if (index.contains(target.getId())) {
+				targets.add(target);
+			}
+		}
+		List<String> level = new ArrayList<>();
+		index.forEachManager((id, managerId) -> {
+			if (managerId == null && index.getManagedCount(id) > 0) {
+				level.add(id);
+			}
+		});
+		for (int i = 0; i < levels && !level.isEmpty(); i++) {
+			List<String> next = new ArrayList<>();
+			for (String id : level) {
+				targets.add(new RequestStatistics.Target(NodeCache.TYPE_TREE, id, 1, maxChildren));
+				targets.add(new RequestStatistics.Target(NodeCache.TYPE_MANAGES, id, 0, maxChildren));
+				for (String report : index.getManagedMembers(id)) {
+					if (!index.isWorkgroup(report) && index.getManagedCount(report) > 0) {
+						next.add(report);
+					}
+				}
+			}
+			level.clear();
+			level.addAll(next);
+		}
+		return new ArrayList<>(targets);
+	}
+
+	/**
+	 * Build the targets with the given number of workers and store them in the NodeCache
+	 *
+	 * @param targets List<RequestStatistics.Target>
+	 * @param settings PluginSettings
+	 * @param parallelism int number of workers
+	 * @param deadline long time in milliseconds after which no further target is started
+	 * @param terminated BooleanSupplier polled before every target
+	 * @return WarmResult
+	 * @throws GeneralException
+	 */
+	public static WarmResult warm(List<RequestStatistics.Target> targets, PluginSettings settings, int parallelism, long deadline,
+			BooleanSupplier terminated) throws GeneralException {
+		ConcurrentLinkedQueue<RequestStatistics.Target> queue = new ConcurrentLinkedQueue<>(targets);
+		AtomicInteger warmed = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger();
+		AtomicInteger count = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+			Thread thread = new Thread(runnable, "orgchartplugin-cache-warming-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<Void>> workers = new ArrayList<>();
+			for (int i = 0; i < Math.max(1, parallelism); i++) {
+				workers.add(executor.submit(() -> {
+					SailPointContext context = SailPointFactory.createContext("orgchartplugin-cache-warming");
+					try {
+						RequestStatistics.Target target;
+						while (!terminated.getAsBoolean() && System.currentTimeMillis() < deadline && (target = queue.poll()) != null) {
+							try {
+								if (warm(context, settings, target)) {
+									warmed.incrementAndGet();
+								}
+							} catch (GeneralException e) {
+								logger.warn("Failed to warm " + target + ": " + e.getMessage());
+								failed.incrementAndGet();
+							}
+							// Nothing of the target is needed anymore
+							context.decache();
+						}
+					} finally {
+						SailPointFactory.releaseContext(context);
+					}
+					return null;
+				}));
+			}
+			for (Future<Void> worker : workers) {
+				worker.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GeneralException("Cache warming interrupted");
+		} catch (ExecutionException e) {
+			throw new GeneralException("Cache warming failed: " + e.getCause(), e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Warmed node cache, warmed: " + warmed.get() + ", failed: " + failed.get() + ", skipped: " + queue.size());
+		}
+		return new WarmResult(warmed.get(), failed.get(), queue.size());
+	}
+
+	private static boolean warm(SailPointContext context, PluginSettings settings, RequestStatistics.Target target) throws GeneralException {
+		String id = target.getId();
+		int maxChildren = target.getMaxChildren();
+		if (NodeCache.TYPE_TREE.equals(target.getType())) {
+			return NodeCache.getInstance().refresh(NodeCache.TYPE_TREE, NodeCache.getTreeId(id, target.getDepth(), maxChildren), settings,
+					() -> IdentityService.getTreeNodes(context, id, settings, target.getDepth(), maxChildren));
+		} else if (NodeCache.TYPE_MANAGES.equals(target.getType())) {
+			return NodeCache.getInstance().refresh(NodeCache.TYPE_MANAGES, NodeCache.getManagesId(id, maxChildren), settings,
+					() -> IdentityService.getChildNodes(context, id, 0, settings, maxChildren));
+		}
+		return false;
+	}
+}
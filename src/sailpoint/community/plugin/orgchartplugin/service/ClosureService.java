@@ -0,0 +1,353 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.community.plugin.orgchartplugin.util.Util;
+import sailpoint.plugin.PluginBaseHelper;
+import sailpoint.tools.GeneralException;
+
+/**
+ * Maintains and queries the closure table of the reporting hierarchy in the plugin database.
+ *
+ * orgchart_closure holds one row per (ancestor, descendant) pair with the number of levels between them,
+ * including the row of every identity to itself with depth 0. orgchart_hierarchy holds the manager of every
+ * identity as of the last update, so an update only rewrites the closure rows of the identities whose
+ * manager changed and of their reports.
+ *
+ * A full rebuild writes N times the average depth closure rows. To bound the undo and transaction log space
+ * it commits after every REBUILD_CHUNK_SIZE identities, each chunk with its closure rows and then its
+ * orgchart_hierarchy rows. Until the rebuild finishes, identities without an orgchart_hierarchy row are reported
+ * as not available and the headcounts of their ancestors are incomplete. A rebuild which fails or is terminated
+ * leaves the committed chunks, the next update treats the missing identities as changed and completes it.
+ */
+public class ClosureService {
+
+	public static final Log logger = LogFactory.getLog(ClosureService.class);
+
+	private static final int BATCH_SIZE = 1000;
+	// Identities per transaction of a full rebuild
+	private static final int REBUILD_CHUNK_SIZE = 10000;
+	private static final int DEFAULT_REPORT_LIMIT = 1000;
+
+	/**
+	 * Counts of one update
+	 */
+	public static class UpdateResult {
+		private final int changedIdentities;
+		private final int deletedIdentities;
+		private final int insertedRows;
+
+		private UpdateResult(int changedIdentities, int deletedIdentities, int insertedRows) {
+			this.changedIdentities = changedIdentities;
+			this.deletedIdentities = deletedIdentities;
+			this.insertedRows = insertedRows;
+		}
+
+		public int getChangedIdentities() {
+			return changedIdentities;
+		}
+
+		public int getDeletedIdentities() {
+			return deletedIdentities;
+		}
+
+		public int getInsertedRows() {
+			return insertedRows;
+		}
+	}
+
+	/**
+	 * Bring the closure table in line with the hierarchy index. Without previous state or with fullRebuild
+	 * the tables are rebuilt in chunks of REBUILD_CHUNK_SIZE identities, one transaction each. Incremental
+	 * changes are committed in one transaction. A failure or termination rolls back the current transaction.
+	 *
+	 * @param index HierarchyIndex
+	 * @param fullRebuild boolean
+	 * @param terminated BooleanSupplier polled between batches
+	 * @return UpdateResult
+	 * @throws GeneralException
+	 */
+	public static UpdateResult update(HierarchyIndex index, boolean fullRebuild, BooleanSupplier terminated) throws GeneralException {
+		Map<String, String> managers = new HashMap<>();
+		index.forEachManager(managers::put);
+		try (Connection connection = PluginBaseHelper.getConnection()) {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try {
+				Map<String, String> stored = (fullRebuild ? new HashMap<>() : loadManagers(connection));
+				Set<String> changed = new HashSet<>();
+				Set<String> deleted = new HashSet<>();
+				if (stored.isEmpty()) {
+					return rebuild(connection, managers, terminated);
+				} else {
+					for (Map.Entry<String, String> entry : managers.entrySet()) {
+						if (!stored.containsKey(entry.getKey()) || !Objects.equals(stored.get(entry.getKey()), entry.getValue())) {
+							changed.add(entry.getKey());
+						}
+					}
+					for (String id : stored.keySet()) {
+						if (!managers.containsKey(id)) {
+							deleted.add(id);
+						}
+					}
+				}
+				// The ancestors of every identity below a changed one change as well
+				Set<String> affected = getSubtrees(managers, changed);
+				Set<String> removed = new HashSet<>(affected);
+				removed.addAll(deleted);
+				executeBatch(connection, "DELETE FROM orgchart_closure WHERE descendant = ?", removed, terminated);
+				executeBatch(connection, "DELETE FROM orgchart_closure WHERE ancestor = ?", deleted, terminated);
+				Set<String> replaced = new HashSet<>(changed);
+				replaced.addAll(deleted);
+				executeBatch(connection, "DELETE FROM orgchart_hierarchy WHERE id = ?", replaced, terminated);
+				int rows = insertClosure(connection, managers, affected, terminated);
+				insertManagers(connection, managers, changed, terminated);
+				connection.commit();
+				if (logger.isDebugEnabled()) {
+					logger.debug("Updated closure table, changed: " + changed.size() + ", deleted: " + deleted.size() + ", rows: " + rows);
+				}
+				return new UpdateResult(changed.size(), deleted.size(), rows);
+			} catch (SQLException | GeneralException | RuntimeException e) {
+				connection.rollback();
+				throw e;
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		} catch (SQLException e) {
+			throw new GeneralException("Failed to update closure table: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Clear the tables and write them again, committing after every chunk of identities
+	 */
+	private static UpdateResult rebuild(Connection connection, Map<String, String> managers, BooleanSupplier terminated)
+			throws SQLException, GeneralException {
+		execute(connection, "DELETE FROM orgchart_closure");
+		execute(connection, "DELETE FROM orgchart_hierarchy");
+		connection.commit();
+		int rows = 0;
+		List<List<String>> chunks = Util.partition(new ArrayList<>(managers.keySet()), REBUILD_CHUNK_SIZE);
+		for (List<String> chunk : chunks) {
+			Set<String> ids = new HashSet<>(chunk);
+			rows += insertClosure(connection, managers, ids, terminated);
+			insertManagers(connection, managers, ids, terminated);
+			connection.commit();
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Rebuilt closure table, identities: " + managers.size() + ", rows: " + rows + ", transactions: " + chunks.size());
+		}
+		return new UpdateResult(managers.size(), 0, rows);
+	}
+
+	private static Map<String, String> loadManagers(Connection connection) throws SQLException {
+		Map<String, String> managers = new HashMap<>();
+		try (Statement statement = connection.createStatement();
+				ResultSet rs = statement.executeQuery("SELECT id, manager_id FROM orgchart_hierarchy")) {
+			while (rs.next()) {
+				managers.put(rs.getString(1), rs.getString(2));
+			}
+		}
+		return managers;
+	}
+
+	private static Set<String> getSubtrees(Map<String, String> managers, Collection<String> roots) {
+		Map<String, List<String>> reports = new HashMap<>();
+		for (Map.Entry<String, String> entry : managers.entrySet()) {
+			if (entry.getValue() != null) {
+				reports.computeIfAbsent(entry.getValue(), k -> new ArrayList<>()).add(entry.getKey());
+			}
+		}
+		Set<String> subtrees = new HashSet<>();
+		Deque<String> queue = new ArrayDeque<>(roots);
+		while (!queue.isEmpty()) {
+			String id = queue.poll();
+			if (subtrees.add(id)) {
+				queue.addAll(reports.getOrDefault(id, new ArrayList<>()));
+			}
+		}
+		return subtrees;
+	}
+
+	private static int insertClosure(Connection connection, Map<String, String> managers, Set<String> descendants,
+			BooleanSupplier terminated) throws SQLException, GeneralException {
+		int rows = 0;
+		try (PreparedStatement statement = connection.prepareStatement("INSERT INTO orgchart_closure (ancestor, descendant, depth) VALUES (?, ?, ?)")) {
+			int batch = 0;
+			for (String descendant : descendants) {
+				Set<String> seen = new HashSet<>();
+				int depth = 0;
+				// Walk up to the top, a manager loop ends the chain
+				for (String ancestor = descendant; ancestor != null && seen.add(ancestor); ancestor = managers.get(ancestor)) {
+					statement.setString(1, ancestor);
+					statement.setString(2, descendant);
+					statement.setInt(3, depth++);
+					statement.addBatch();
+					rows++;
+					if (++batch >= BATCH_SIZE) {
+						checkTerminated(terminated);
+						statement.executeBatch();
+						batch = 0;
+					}
+				}
+			}
+			if (batch > 0) {
+				statement.executeBatch();
+			}
+		}
+		return rows;
+	}
+
+	private static void insertManagers(Connection connection, Map<String, String> managers, Set<String> ids,
+			BooleanSupplier terminated) throws SQLException, GeneralException {
+		try (PreparedStatement statement = connection.prepareStatement("INSERT INTO orgchart_hierarchy (id, manager_id) VALUES (?, ?)")) {
+			int batch = 0;
+			for (String id : ids) {
+				statement.setString(1, id);
+				statement.setString(2, managers.get(id));
+				statement.addBatch();
+				if (++batch >= BATCH_SIZE) {
+					checkTerminated(terminated);
+					statement.executeBatch();
+					batch = 0;
+				}
+			}
+			if (batch > 0) {
+				statement.executeBatch();
+			}
+		}
+	}
+
+	private static void executeBatch(Connection connection, String sql, Collection<String> ids, BooleanSupplier terminated) throws SQLException, GeneralException {
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			int batch = 0;
+			for (String id : ids) {
+				statement.setString(1, id);
+				statement.addBatch();
+				if (++batch >= BATCH_SIZE) {
+					checkTerminated(terminated);
+					statement.executeBatch();
+					batch = 0;
+				}
+			}
+			if (batch > 0) {
+				statement.executeBatch();
+			}
+		}
+	}
+
+	private static void execute(Connection connection, String sql) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.executeUpdate(sql);
+		}
+	}
+
+	private static void checkTerminated(BooleanSupplier terminated) throws GeneralException {
+		if (terminated.getAsBoolean()) {
+			throw new GeneralException("Closure table update terminated");
+		}
+	}
+
+	/**
+	 * Return the headcount below the identity, its ancestors and its reports down to the given depth.
+	 * available is false when the identity is not in the closure table yet, e.g. before the first task run.
+	 *
+	 * @param id String
+	 * @param depth int levels of reports, 1 returns the direct reports
+	 * @param limit int maximum number of reports, DEFAULT_REPORT_LIMIT if not positive
+	 * @return Map<String, Object> with available, headcount, ancestors and reports
+	 * @throws GeneralException
+	 */
+	public static Map<String, Object> getHierarchy(String id, int depth, int limit) throws GeneralException {
+		Map<String, Object> hierarchy = new LinkedHashMap<>();
+		try (Connection connection = PluginBaseHelper.getConnection()) {
+			boolean available = exists(connection, id);
+			hierarchy.put("available", available);
+			if (available) {
+				hierarchy.put("headcount", getHeadcount(connection, id));
+				hierarchy.put("ancestors", getRelatives(connection,
+						"SELECT ancestor, depth FROM orgchart_closure WHERE descendant = ? AND depth > 0 ORDER BY depth", id, 0, 0));
+				hierarchy.put("reports", getRelatives(connection,
+						"SELECT descendant, depth FROM orgchart_closure WHERE ancestor = ? AND depth > 0 AND depth <= ? ORDER BY depth, descendant",
+						id, Math.max(1, depth), (limit > 0 ? limit : DEFAULT_REPORT_LIMIT)));
+			}
+		} catch (SQLException e) {
+			throw new GeneralException("Failed to query closure table: " + e.getMessage(), e);
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Return the number of identities below the identity, -1 if the identity is not in the closure table
+	 *
+	 * @param id String
+	 * @return int
+	 * @throws GeneralException
+	 */
+	public static int getHeadcount(String id) throws GeneralException {
+		try (Connection connection = PluginBaseHelper.getConnection()) {
+			return (exists(connection, id) ? getHeadcount(connection, id) : -1);
+		} catch (SQLException e) {
+			throw new GeneralException("Failed to query closure table: " + e.getMessage(), e);
+		}
+	}
+
+	private static boolean exists(Connection connection, String id) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement("SELECT id FROM orgchart_hierarchy WHERE id = ?")) {
+			statement.setString(1, id);
+			try (ResultSet rs = statement.executeQuery()) {
+				return rs.next();
+			}
+		}
+	}
+
+	private static int getHeadcount(Connection connection, String id) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM orgchart_closure WHERE ancestor = ? AND depth > 0")) {
+			statement.setString(1, id);
+			try (ResultSet rs = statement.executeQuery()) {
+				return (rs.next() ? rs.getInt(1) : 0);
+			}
+		}
+	}
+
+	private static List<Map<String, Object>> getRelatives(Connection connection, String sql, String id, int depth, int limit) throws SQLException {
+		List<Map<String, Object>> relatives = new ArrayList<>();
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.setString(1, id);
+			if (depth > 0) {
+				statement.setInt(2, depth);
+			}
+			if (limit > 0) {
+				statement.setMaxRows(limit);
+			}
+			try (ResultSet rs = statement.executeQuery()) {
+				while (rs.next()) {
+					Map<String, Object> relative = new HashMap<>();
+					relative.put("id", rs.getString(1));
+					relative.put("depth", rs.getInt(2));
+					relatives.add(relative);
+				}
+			}
+		}
+		return relatives;
+	}
+}
@@ -0,0 +1,142 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Dictionary encoded, columnar representation of a node list, e.g.
+ *
+ * <pre>
+ * { "version": 1, "size": 2,
+ *   "constants": { "identityIconImgAttribute": "icon" },
+ *   "dictionary": [ "employee", "#00ff00", "2c9..." ],
+ *   "columns": { "type": { "encoding": "string", "values": [0, 0] },
+ *                "workgroups": { "encoding": "strings", "values": [[2], []] },
+ *                "managesCount": { "encoding": "value", "values": [3, 0] } } }
+ * </pre>
+ *
+ * Keys with the same value on every node are sent once as constant, strings are replaced by their index in the
+ * dictionary and every other key is one array with a value per node. Keys missing on a node are decoded as null.
+ * The UI DataService decodes the format back into the node list.
+ */
+public class CompactNodeFormat {
+
+	public static final String FORMAT = "compact";
+	public static final String MEDIA_TYPE = "application/vnd.orgchartplugin.compact+json";
+
+	private static final int VERSION = 1;
+	private static final String ENCODING_STRING = "string";
+	private static final String ENCODING_STRINGS = "strings";
+	private static final String ENCODING_VALUE = "value";
+
+	/**
+	 * Return true if the compact format is requested by the format query parameter or the Accept header
+	 *
+	 * @param format String query parameter
+	 * @param accept String Accept header
+	 * @return boolean
+	 */
+	public static boolean isRequested(String format, String accept) {
+		return FORMAT.equalsIgnoreCase(format) || (accept != null && accept.contains(MEDIA_TYPE));
+	}
+
+	/**
+	 * Encode the nodes
+	 *
+	 * @param nodes List<Map<String, Object>>
+	 * @return Map<String, Object>
+	 */
+	public static Map<String, Object> encode(List<Map<String, Object>> nodes) {
+		TreeSet<String> keys = new TreeSet<>();
+		for (Map<String, Object> node : nodes) {
+			keys.addAll(node.keySet());
+		}
+		Map<String, Object> constants = new LinkedHashMap<>();
+		Map<String, Object> columns = new LinkedHashMap<>();
+		Map<String, Integer> dictionary = new HashMap<>();
+		List<String> strings = new ArrayList<>();
+		for (String key : keys) {
+			if (isConstant(nodes, key)) {
+				constants.put(key, nodes.get(0).get(key));
+				continue;
+			}
+			String encoding = getEncoding(nodes, key);
+			List<Object> values = new ArrayList<>(nodes.size());
+			for (Map<String, Object> node : nodes) {
+				Object value = node.get(key);
+				if (value == null) {
+					values.add(null);
+				} else if (ENCODING_STRING.equals(encoding)) {
+					values.add(intern(dictionary, strings, (String) value));
+				} else if (ENCODING_STRINGS.equals(encoding)) {
+					List<Integer> indexes = new ArrayList<>();
+					for (Object item : (List<?>) value) {
+						indexes.add(intern(dictionary, strings, (String) item));
+					}
+					values.add(indexes);
+				} else {
+					values.add(value);
+				}
+			}
+			Map<String, Object> column = new LinkedHashMap<>();
+			column.put("encoding", encoding);
+			column.put("values", values);
+			columns.put(key, column);
+		}
+		Map<String, Object> compact = new LinkedHashMap<>();
+		compact.put("version", VERSION);
+		compact.put("size", nodes.size());
+		compact.put("constants", constants);
+		compact.put("dictionary", strings);
+		compact.put("columns", columns);
+		return compact;
+	}
+
+	private static boolean isConstant(List<Map<String, Object>> nodes, String key) {
+		if (nodes.isEmpty() || !nodes.get(0).containsKey(key)) {
+			return false;
+		}
+		Object first = nodes.get(0).get(key);
+		for (Map<String, Object> node : nodes) {
+			if (!node.containsKey(key) || !Objects.equals(first, node.get(key))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Strings and lists of strings are dictionary encoded, columns with any other value are sent as they are
+	 */
+	private static String getEncoding(List<Map<String, Object>> nodes, String key) {
+		boolean strings = true;
+		boolean lists = true;
+		for (Map<String, Object> node : nodes) {
+			Object value = node.get(key);
+			if (value == null) {
+				continue;
+			}
+			strings &= (value instanceof String);
+			if (value instanceof List) {
+				for (Object item : (List<?>) value) {
+					lists &= (item instanceof String);
+				}
+			} else {
+				lists = false;
+			}
+		}
+		return (strings ? ENCODING_STRING : (lists ? ENCODING_STRINGS : ENCODING_VALUE));
+	}
+
+	private static Integer intern(Map<String, Integer> dictionary, List<String> strings, String value) {
+		return dictionary.computeIfAbsent(value, k -> {
+			strings.add(k);
+			return strings.size() - 1;
+		});
+	}
+}
@@ -0,0 +1,287 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.community.plugin.orgchartplugin.util.Util;
+import sailpoint.object.Filter;
+import sailpoint.object.QueryOptions;
+import sailpoint.object.Rule;
+import sailpoint.tools.GeneralException;
+
+/**
+ * Runs the Connection Rule and caches its results per evaluated node.
+ *
+ * The rule gets the arguments allNodeIds and newNodeIds. Every node evaluated by the rule is cached with its
+ * connections and the node sets it was evaluated with. A node is known for a request if the sets it was
+ * evaluated with cover all other known nodes of the request, so the rule only has to evaluate the new nodes.
+ * The node sets of one rule run are shared by all its nodes, the memory grows with the nodes and not with the pairs.
+ * Rules which ignore newNodeIds still work, only the connections involving a new node are taken from their result.
+ *
+ * The node cache is keyed by the rule name, id and modified date and cleared when the rule changes. The Rule
+ * object itself is loaded into the context of every request, as Hibernate objects must not be shared between
+ * sessions. The cached results are shared by all users, so the rule must not depend on the requesting user.
+ */
+public class ConnectionService {
+
+	public static final Log logger = LogFactory.getLog(ConnectionService.class);
+
+	public static final String ARG_ALL_NODE_IDS = "allNodeIds";
+	public static final String ARG_NEW_NODE_IDS = "newNodeIds";
+	private static final String ATTR_FROM = "from";
+	private static final String ATTR_TO = "to";
+
+	private static final int MAX_CACHED_NODES = 50000;
+	// Node sets kept per node, older evaluations are dropped and evaluated again if needed
+	private static final int MAX_EVALUATED_SETS = 8;
+	private static final int DEFAULT_TTL_SECONDS = 300;
+
+	private static final ConcurrentMap<String, CachedNode> nodes = new ConcurrentHashMap<>();
+	private static volatile String nodesRuleKey;
+
+	/**
+	 * Id and modified date of the rule, read without loading the rule
+	 */
+	private static class RuleVersion {
+		private final String id;
+		private final Date modified;
+
+		private RuleVersion(String id, Date modified) {
+			this.id = id;
+			this.modified = modified;
+		}
+	}
+
+	/**
+	 * Connections of one node, evaluated against the node sets in evaluatedWith. Immutable, updates replace the entry.
+	 */
+	private static class CachedNode {
+		private final String ruleKey;
+		private final List<Map<String, Object>> connections;
+		private final List<Set<String>> evaluatedWith;
+		private final long expiresAt;
+
+		private CachedNode(String ruleKey, List<Map<String, Object>> connections, List<Set<String>> evaluatedWith, long expiresAt) {
+			this.ruleKey = ruleKey;
+			this.connections = connections;
+			this.evaluatedWith = evaluatedWith;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isValid(String ruleKey, long now) {
+			return this.ruleKey.equals(ruleKey) && expiresAt > now;
+		}
+
+		private boolean isEvaluatedWith(Set<String> ids) {
+			for (Set<String> evaluated : evaluatedWith) {
+				if (evaluated.containsAll(ids)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private boolean isEvaluatedWith(String id) {
+			for (Set<String> ids : evaluatedWith) {
+				if (ids.contains(id)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Return the connections between the nodes, running the rule only for the nodes which are not known yet
+	 *
+	 * @param context SailPointContext
+	 * @param ruleName String
+	 * @param payload Map<String, Object> request payload with allNodeIds and optional newNodeIds
+	 * @return List<Map<String, Object>>
+	 * @throws GeneralException
+	 */
+	@SuppressWarnings("unchecked")
+	public static List<Map<String, Object>> getConnections(SailPointContext context, String ruleName, Map<String, Object> payload) throws GeneralException {
+		RuleVersion ruleVersion = getRuleVersion(context, ruleName);
+		String ruleKey = ruleName + ":" + ruleVersion.id + ":" + ruleVersion.modified.getTime();
+		if (!ruleKey.equals(nodesRuleKey)) {
+			nodes.clear();
+			nodesRuleKey = ruleKey;
+		}
+		List<String> allNodeIds = new ArrayList<>(new LinkedHashSet<>(Util.otol(payload.get(ARG_ALL_NODE_IDS))));
+		Set<String> newNodeIds = new LinkedHashSet<>();
+		if (payload.get(ARG_NEW_NODE_IDS) != null) {
+			newNodeIds.addAll(Util.otol(payload.get(ARG_NEW_NODE_IDS)));
+			newNodeIds.retainAll(allNodeIds);
+		} else {
+			newNodeIds.addAll(allNodeIds);
+		}
+		// Nodes the client considers known but which are not cached or not evaluated with all other known nodes
+		// are evaluated again
+		long now = System.currentTimeMillis();
+		Map<String, CachedNode> known = new HashMap<>();
+		for (String id : allNodeIds) {
+			CachedNode node = nodes.get(id);
+			if (!newNodeIds.contains(id) && node != null && node.isValid(ruleKey, now)) {
+				known.put(id, node);
+			}
+		}
+		for (String id : allNodeIds) {
+			if (!newNodeIds.contains(id) && !known.containsKey(id)) {
+				newNodeIds.add(id);
+			}
+		}
+		Set<String> knownIds = new HashSet<>(known.keySet());
+		for (Map.Entry<String, CachedNode> entry : known.entrySet()) {
+			if (entry.getValue().isEvaluatedWith(knownIds)) {
+				continue;
+			}
+			for (String other : knownIds) {
+				if (!other.equals(entry.getKey()) && !entry.getValue().isEvaluatedWith(other) && !known.get(other).isEvaluatedWith(entry.getKey())) {
+					newNodeIds.add(entry.getKey());
+					break;
+				}
+			}
+		}
+		known.keySet().removeAll(newNodeIds);
+		List<Map<String, Object>> connections = new ArrayList<>();
+		// Every connection is cached at both nodes, take it from its from node
+		for (Map.Entry<String, CachedNode> entry : known.entrySet()) {
+			for (Map<String, Object> connection : entry.getValue().connections) {
+				if (entry.getKey().equals(Util.otos(connection.get(ATTR_FROM))) && known.containsKey(Util.otos(connection.get(ATTR_TO)))) {
+					connections.add(connection);
+				}
+			}
+		}
+		if (!newNodeIds.isEmpty()) {
+			Map<String, Object> args = new HashMap<>(payload);
+			args.put(ARG_ALL_NODE_IDS, allNodeIds);
+			args.put(ARG_NEW_NODE_IDS, new ArrayList<>(newNodeIds));
+			Rule rule = context.getObjectById(Rule.class, ruleVersion.id);
+			if (rule == null) {
+				throw new GeneralException("Can not retrieve Connection Rule object: " + ruleName);
+			}
+			List<Map<String, Object>> evaluated = (List<Map<String, Object>>) context.runRule(rule, args);
+			connections.addAll(putNodes(ruleKey, allNodeIds, newNodeIds, evaluated));
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Connections of " + allNodeIds.size() + " nodes, evaluated " + newNodeIds.size() + " new nodes");
+		}
+		return connections;
+	}
+
+	/**
+	 * Cache the rule result for the new nodes and the known nodes they were evaluated with and return the
+	 * connections which involve a new node
+	 */
+	private static List<Map<String, Object>> putNodes(String ruleKey, List<String> allNodeIds, Set<String> newNodeIds,
+			List<Map<String, Object>> evaluated) {
+		Map<String, List<Map<String, Object>>> byNode = new HashMap<>();
+		List<Map<String, Object>> connections = new ArrayList<>();
+		Set<String> all = Collections.unmodifiableSet(new HashSet<>(allNodeIds));
+		for (Map<String, Object> connection : Util.safeIterable(evaluated)) {
+			String from = Util.otos(connection.get(ATTR_FROM));
+			String to = Util.otos(connection.get(ATTR_TO));
+			if (from != null && to != null && all.contains(from) && all.contains(to) && (newNodeIds.contains(from) || newNodeIds.contains(to))) {
+				connections.add(connection);
+				byNode.computeIfAbsent(from, k -> new ArrayList<>()).add(connection);
+				if (!from.equals(to)) {
+					byNode.computeIfAbsent(to, k -> new ArrayList<>()).add(connection);
+				}
+			}
+		}
+		if (!ruleKey.equals(nodesRuleKey)) { // Rule changed meanwhile, do not cache
+			return connections;
+		}
+		long expiresAt = System.currentTimeMillis() + getTtlSeconds() * 1000L;
+		List<Set<String>> evaluatedWith = Collections.singletonList(all);
+		for (String id : allNodeIds) {
+			List<Map<String, Object>> nodeConnections = byNode.getOrDefault(id, Collections.emptyList());
+			if (newNodeIds.contains(id)) {
+				nodes.put(id, new CachedNode(ruleKey, Collections.unmodifiableList(nodeConnections), evaluatedWith, expiresAt));
+			} else {
+				// Known node, add the connections to the new nodes and the node set they were evaluated with
+				nodes.computeIfPresent(id, (k, node) -> {
+					List<Map<String, Object>> merged = new ArrayList<>();
+					for (Map<String, Object> connection : node.connections) {
+						String other = (id.equals(Util.otos(connection.get(ATTR_FROM))) ? Util.otos(connection.get(ATTR_TO)) : Util.otos(connection.get(ATTR_FROM)));
+						if (!newNodeIds.contains(other)) {
+							merged.add(connection);
+						}
+					}
+					merged.addAll(nodeConnections);
+					List<Set<String>> sets = new ArrayList<>(node.evaluatedWith);
+					sets.add(all);
+					while (sets.size() > MAX_EVALUATED_SETS) {
+						sets.remove(0);
+					}
+					return new CachedNode(ruleKey, Collections.unmodifiableList(merged), Collections.unmodifiableList(sets), node.expiresAt);
+				});
+			}
+		}
+		if (nodes.size() > MAX_CACHED_NODES) {
+			evict();
+		}
+		return connections;
+	}
+
+	/**
+	 * Drop the expired nodes, then the nodes expiring first until the cache is below its cap again
+	 */
+	private static synchronized void evict() {
+		long now = System.currentTimeMillis();
+		nodes.values().removeIf(node -> node.expiresAt <= now);
+		int excess = nodes.size() - MAX_CACHED_NODES * 9 / 10;
+		if (excess > 0) {
+			nodes.entrySet().stream()
+					.sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt))
+					.limit(excess)
+					.map(Map.Entry::getKey)
+					.collect(Collectors.toList())
+					.forEach(nodes::remove);
+		}
+	}
+
+	/**
+	 * Return the id and modified date of the rule
+	 *
+	 * @param context SailPointContext
+	 * @param ruleName String
+	 * @return RuleVersion
+	 * @throws GeneralException
+	 */
+	private static RuleVersion getRuleVersion(SailPointContext context, String ruleName) throws GeneralException {
+		QueryOptions qo = new QueryOptions();
+		qo.add(Filter.eq("name", ruleName));
+		Iterator<Object[]> it = context.search(Rule.class, qo, Arrays.asList("id", "modified", "created"));
+		if (!it.hasNext()) {
+			throw new GeneralException("Can not retrieve Connection Rule object: " + ruleName);
+		}
+		Object[] row = it.next();
+		Util.flushIterator(it);
+		Date modified = (Date) (row[1] != null ? row[1] : row[2]);
+		return new RuleVersion(Util.otos(row[0]), (modified != null ? modified : new Date(0)));
+	}
+
+	private static int getTtlSeconds() {
+		int seconds = PluginSettingService.getSettingNodeCacheTtlSeconds();
+		return (seconds > 0 ? seconds : DEFAULT_TTL_SECONDS);
+	}
+}
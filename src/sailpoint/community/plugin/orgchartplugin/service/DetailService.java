@@ -0,0 +1,153 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.api.SailPointFactory;
+import sailpoint.tools.GeneralException;
+
+/**
+ * Loads the sections of the details view in parallel. Every section runs on its own SailPointContext,
+ * sections which do not finish within the configured timeout are skipped and the result is flagged as partial.
+ * The sections get the identity id only, sections which need the Identity object load it themselves, so a
+ * Group of several keys can share one load.
+ *
+ * Virtual threads are used when the JVM supports them (JDK 21+), a fixed thread pool otherwise.
+ * In both cases at most MAX_PARALLEL_SECTIONS sections run at the same time to protect the database connection pool.
+ */
+public class DetailService {
+
+	public static final Log logger = LogFactory.getLog(DetailService.class);
+
+	private static final int MAX_PARALLEL_SECTIONS = 8;
+	private static final int DEFAULT_SECTION_TIMEOUT_SECONDS = 10;
+
+	private static final ExecutorService executor = createExecutor();
+	private static final Semaphore permits = new Semaphore(MAX_PARALLEL_SECTIONS);
+
+	/**
+	 * One section of the details view, loaded on its own context
+	 */
+	public interface Section {
+		Object load(SailPointContext context, String id) throws GeneralException;
+	}
+
+	/**
+	 * Result of a section which loads several keys of the details at once, the entries are put into
+	 * the details instead of the section name
+	 */
+	public static class Group extends LinkedHashMap<String, Object> {
+		private static final long serialVersionUID = 1L;
+	}
+
+	private static ExecutorService createExecutor() {
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			logger.debug("Using virtual threads to load details sections");
+			return (ExecutorService) method.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			AtomicInteger count = new AtomicInteger();
+			ThreadFactory threadFactory = runnable -> {
+				Thread thread = new Thread(runnable, "orgchartplugin-details-" + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(MAX_PARALLEL_SECTIONS, MAX_PARALLEL_SECTIONS, 60L, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), threadFactory);
+			pool.allowCoreThreadTimeOut(true);
+			return pool;
+		}
+	}
+
+	/**
+	 * Load the sections in parallel and put the results into the details map. The keys "partial",
+	 * "timedOutSections" and "failedSections" tell which sections are missing.
+	 *
+	 * @param id String identity id
+	 * @param sections Map<String, Section> section name to loader
+	 * @return Map<String, Object>
+	 */
+	public static Map<String, Object> getDetails(String id, Map<String, Section> sections) {
+		RequestMetrics.Request request = RequestMetrics.current();
+		Map<String, Future<Object>> futures = new LinkedHashMap<>();
+		for (Map.Entry<String, Section> entry : sections.entrySet()) {
+			futures.put(entry.getKey(), executor.submit(() -> loadSection(id, entry.getKey(), entry.getValue(), request)));
+		}
+		Map<String, Object> details = new LinkedHashMap<>();
+		List<String> timedOut = new ArrayList<>();
+		List<String> failed = new ArrayList<>();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(getSectionTimeoutSeconds());
+		for (Map.Entry<String, Future<Object>> entry : futures.entrySet()) {
+			try {
+				Object result = entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				if (result instanceof Group) {
+					details.putAll((Group) result);
+				} else {
+					details.put(entry.getKey(), result);
+				}
+			} catch (TimeoutException e) {
+				logger.warn("Details section " + entry.getKey() + " of " + id + " timed out");
+				entry.getValue().cancel(true);
+				timedOut.add(entry.getKey());
+			} catch (ExecutionException e) {
+				logger.error("Failed to load details section " + entry.getKey() + " of " + id + ": " + e.getCause());
+				failed.add(entry.getKey());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				entry.getValue().cancel(true);
+				timedOut.add(entry.getKey());
+			}
+		}
+		details.put("partial", !timedOut.isEmpty() || !failed.isEmpty());
+		details.put("timedOutSections", timedOut);
+		details.put("failedSections", failed);
+		return details;
+	}
+
+	private static Object loadSection(String id, String name, Section section, RequestMetrics.Request request) throws GeneralException, InterruptedException {
+		permits.acquire();
+		SailPointContext context = null;
+		long start = System.currentTimeMillis();
+		try {
+			context = SailPointFactory.createContext("orgchartplugin-details");
+			// Count the database calls of the section into the request
+			SailPointContext measured = RequestMetrics.wrap(context, request);
+			Object result = section.load(measured, id);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Loaded details section " + name + " of " + id + " in " + (System.currentTimeMillis() - start) + "ms");
+			}
+			return result;
+		} finally {
+			if (context != null) {
+				SailPointFactory.releaseContext(context);
+			}
+			if (request != null) {
+				request.addStage("section-" + name, TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - start));
+			}
+			permits.release();
+		}
+	}
+
+	private static int getSectionTimeoutSeconds() {
+		int seconds = PluginSettingService.getSettingDetailsSectionTimeoutSeconds();
+		return (seconds > 0 ? seconds : DEFAULT_SECTION_TIMEOUT_SECONDS);
+	}
+}
@@ -0,0 +1,183 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.community.plugin.orgchartplugin.util.Util;
+import sailpoint.object.Filter;
+import sailpoint.object.Identity;
+import sailpoint.object.QueryOptions;
+import sailpoint.tools.GeneralException;
+import sailpoint.tools.JsonHelper;
+
+/**
+ * Exports the node of every identity and workgroup in the card format of getNodeMap.
+ *
+ * The ids are read in pages ordered by id, each page continues after the last id of the previous page
+ * (keyset pagination), so the database never has to skip rows. The Hibernate session is cleared after
+ * every page to keep the memory flat, and every node is written as soon as it is built. The session being
+ * cleared, the export has to run on a context of its own, not on the context of the REST request.
+ */
+public class ExportService {
+
+	public static final Log logger = LogFactory.getLog(ExportService.class);
+
+	public static final String FORMAT_NDJSON = "ndjson";
+	public static final String FORMAT_CSV = "csv";
+
+	private static final int PAGE_SIZE = 1000;
+	private static final List<String> CSV_COLUMNS = Arrays.asList("id", "name", "displayName", "type", "parentId", "inactive",
+			"managesCount", "membershipCount", "memberCount", "policyViolationsCount");
+	// Collections written as one CSV column, values separated by LIST_SEPARATOR
+	private static final List<String> CSV_LIST_COLUMNS = Arrays.asList("workgroups", "assignedRoles", "detectedRoles", "members");
+	private static final String LIST_SEPARATOR = "|";
+	private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+	/**
+	 * Return true if the format is supported
+	 *
+	 * @param format String
+	 * @return boolean
+	 */
+	public static boolean isSupportedFormat(String format) {
+		return FORMAT_NDJSON.equals(format) || FORMAT_CSV.equals(format);
+	}
+
+	/**
+	 * Write all nodes to the writer, one JSON object per line or one CSV row per node
+	 *
+	 * @param context SailPointContext of the export only, its session is cleared
+	 * @param settings PluginSettings
+	 * @param format String FORMAT_NDJSON or FORMAT_CSV
+	 * @param writer Writer
+	 * @return int number of exported nodes
+	 * @throws GeneralException
+	 */
+	public static int export(SailPointContext context, PluginSettings settings, String format, Writer writer) throws GeneralException {
+		boolean csv = FORMAT_CSV.equals(format);
+		List<String> attributeColumns = getAttributeColumns(settings);
+		int count = 0;
+		try {
+			if (csv) {
+				List<String> header = new ArrayList<>(CSV_COLUMNS);
+				header.addAll(attributeColumns);
+				header.addAll(CSV_LIST_COLUMNS);
+				writeCsvRow(writer, header);
+			}
+			String lastId = null;
+			List<String> ids = getIdPage(context, lastId);
+			while (!ids.isEmpty()) {
+				int[] written = { 0 };
+				IdentityService.getNodeMaps(context, ids, null, settings, node -> {
+					try {
+						if (csv) {
+							writeCsvRow(writer, toCsvRow(node, attributeColumns));
+						} else {
+							writer.write(JsonHelper.toJson(node));
+							writer.write('\n');
+						}
+						written[0]++;
+					} catch (IOException e) {
+						throw new GeneralException(e);
+					}
+				});
+				count += written[0];
+				writer.flush();
+				lastId = ids.get(ids.size() - 1);
+				// Objects loaded while building the page are not needed anymore
+				context.decache();
+				ids = (ids.size() < PAGE_SIZE ? new ArrayList<>() : getIdPage(context, lastId));
+			}
+			writer.flush();
+		} catch (IOException e) {
+			throw new GeneralException("Failed to write export: " + e.getMessage(), e);
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Exported nodes: " + count);
+		}
+		return count;
+	}
+
+	private static List<String> getIdPage(SailPointContext context, String lastId) throws GeneralException {
+		return RequestMetrics.time("idPage", () -> {
+			List<String> ids = new ArrayList<>(PAGE_SIZE);
+			QueryOptions qo = new QueryOptions();
+			if (lastId != null) {
+				qo.add(Filter.gt("id", lastId));
+			}
+			qo.addOrdering("id", true);
+			qo.setResultLimit(PAGE_SIZE);
+			Iterator<Object[]> it = context.search(Identity.class, qo, Arrays.asList("id"));
+			while (it.hasNext()) {
+				ids.add(Util.otos(it.next()[0]));
+			}
+			Util.flushIterator(it);
+			return ids;
+		});
+	}
+
+	private static List<String> getAttributeColumns(PluginSettings settings) {
+		Set<String> columns = new LinkedHashSet<>();
+		if (settings.getIdentityCardAttrs() != null) {
+			columns.addAll(settings.getIdentityCardAttrs());
+		}
+		if (settings.getWorkgroupCardAttrs() != null) {
+			columns.addAll(settings.getWorkgroupCardAttrs());
+		}
+		columns.removeAll(CSV_COLUMNS);
+		columns.removeAll(CSV_LIST_COLUMNS);
+		return new ArrayList<>(columns);
+	}
+
+	private static List<String> toCsvRow(Map<String, Object> node, List<String> attributeColumns) {
+		List<String> row = new ArrayList<>();
+		for (String column : CSV_COLUMNS) {
+			row.add(Util.otos(node.get(column)));
+		}
+		for (String column : attributeColumns) {
+			row.add(Util.otos(node.get(column)));
+		}
+		for (String column : CSV_LIST_COLUMNS) {
+			Object value = node.get(column);
+			row.add(value instanceof Collection
+					? ((Collection<?>) value).stream().map(Util::otos).collect(Collectors.joining(LIST_SEPARATOR)) : null);
+		}
+		return row;
+	}
+
+	private static void writeCsvRow(Writer writer, List<String> values) throws IOException {
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			String value = values.get(i);
+			if (value != null) {
+				// Spreadsheets run cells starting with these characters as formulas, the quote keeps them text
+				if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+					value = "'" + value;
+				}
+				if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+					writer.write('"');
+					writer.write(value.replace("\"", "\"\""));
+					writer.write('"');
+				} else {
+					writer.write(value);
+				}
+			}
+		}
+		writer.write("\r\n");
+	}
+}
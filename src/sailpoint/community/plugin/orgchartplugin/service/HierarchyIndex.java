@@ -0,0 +1,492 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.api.SailPointFactory;
+import sailpoint.community.plugin.orgchartplugin.util.Util;
+import sailpoint.object.Filter;
+import sailpoint.object.Identity;
+import sailpoint.object.QueryOptions;
+import sailpoint.tools.GeneralException;
+
+/**
+ * Plugin wide, in-memory index of the reporting hierarchy (manager -> reports, owner -> workgroups).
+ *
+ * Every identity id is mapped to an int, the relations are kept as primitive int arrays in compressed
+ * adjacency form. The index is built with one streaming projection query over Identity and afterwards
+ * kept fresh by delta refreshes on the modified/created timestamps. As deletes can not be detected by
+ * the delta query, a full rebuild is done when the database holds fewer identities than the index after the
+ * delta or the rebuild interval is reached. Refreshes run on a background thread with a context of their own.
+ *
+ * The relations of an instance never change, a refresh with changes builds a new instance which is swapped in atomically.
+ */
+public class HierarchyIndex {
+
+	public static final Log logger = LogFactory.getLog(HierarchyIndex.class);
+
+	private static final List<String> INDEX_PROPERTIES = Arrays.asList("id", "manager.id", "owner.id", "workgroup", "modified", "created");
+	private static final int DEFAULT_REFRESH_SECONDS = 60;
+	private static final long REBUILD_INTERVAL_MS = 60 * 60 * 1000L;
+	// Minimum time between refreshes forced by requests of unknown ids
+	private static final long FORCED_REFRESH_INTERVAL_MS = 5 * 1000L;
+	private static final int NONE = -1;
+
+	private static volatile HierarchyIndex instance;
+	private static final ReentrantLock refreshLock = new ReentrantLock();
+	private static final AtomicBoolean refreshing = new AtomicBoolean();
+	private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "orgchartplugin-hierarchy-index");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private static volatile long forcedRefreshAt;
+
+	// id <-> int dictionary
+	private final Map<String, Integer> dictionary;
+	private final String[] ids;
+	// Per node: manager index of identities, owner index of workgroups
+	private final int[] managers;
+	private final int[] owners;
+	private final BitSet workgroups;
+	// Adjacency arrays, children of node i are children[offsets[i]] .. children[offsets[i+1] - 1]
+	private final int[] reportOffsets;
+	private final int[] reports;
+	private final int[] workgroupOffsets;
+	private final int[] ownedWorkgroups;
+
+	private final long generation;
+	// Advanced by refreshes without relation changes too, it stamps any identity change
+	private volatile Date watermark;
+	private final long builtAt;
+	private volatile long refreshedAt;
+
+	private HierarchyIndex(Map<String, Integer> dictionary, String[] ids, int[] managers, int[] owners, BitSet workgroups,
+			long generation, Date watermark, long builtAt) {
+		this.dictionary = dictionary;
+		this.ids = ids;
+		this.managers = managers;
+		this.owners = owners;
+		this.workgroups = workgroups;
+		this.reportOffsets = new int[ids.length + 1];
+		this.reports = buildAdjacency(managers, reportOffsets);
+		this.workgroupOffsets = new int[ids.length + 1];
+		this.ownedWorkgroups = buildAdjacency(owners, workgroupOffsets);
+		this.generation = generation;
+		this.watermark = watermark;
+		this.builtAt = builtAt;
+		this.refreshedAt = System.currentTimeMillis();
+	}
+
+	/**
+	 * Return the current index, build it on first use and refresh it in the background when it is older than the
+	 * refresh interval. Only requests arriving before the first build is done wait for it, see prepare().
+	 *
+	 * @param context SailPointContext
+	 * @return HierarchyIndex
+	 * @throws GeneralException
+	 */
+	public static HierarchyIndex getIndex(SailPointContext context) throws GeneralException {
+		HierarchyIndex index = instance;
+		if (index == null) {
+			refreshLock.lock();
+			try {
+				if (instance == null) {
+					instance = build(context, 1);
+				}
+				return instance;
+			} finally {
+				refreshLock.unlock();
+			}
+		}
+		if (System.currentTimeMillis() - index.refreshedAt > getRefreshIntervalMs()) {
+			refreshInBackground();
+		}
+		return index;
+	}
+
+	/**
+	 * Start the first build in the background, so it is done or under way when the first org chart is requested
+	 */
+	public static void prepare() {
+		if (instance == null) {
+			refreshInBackground();
+		}
+	}
+
+	private static void refreshInBackground() {
+		if (!refreshing.compareAndSet(false, true)) {
+			return;
+		}
+		executor.execute(() -> {
+			SailPointContext context = null;
+			refreshLock.lock();
+			try {
+				context = SailPointFactory.createContext("orgchartplugin-hierarchy-index");
+				instance = (instance == null ? build(context, 1) : update(context, instance));
+			} catch (GeneralException | RuntimeException e) {
+				logger.error("Failed to refresh hierarchy index: " + e);
+			} finally {
+				refreshLock.unlock();
+				try {
+					if (context != null) {
+						SailPointFactory.releaseContext(context);
+					}
+				} catch (GeneralException e) {
+					logger.warn("Failed to release hierarchy index context: " + e);
+				} finally {
+					refreshing.set(false);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Return the current index for a request of the id. If the index does not know the id, e.g. it was created after
+	 * the last refresh, the index is refreshed at most once per FORCED_REFRESH_INTERVAL_MS and only if no other thread
+	 * refreshes it. Otherwise the current index is returned without waiting and the id is unknown to the caller.
+	 *
+	 * @param context SailPointContext
+	 * @param id String
+	 * @return HierarchyIndex
+	 * @throws GeneralException
+	 */
+	public static HierarchyIndex getIndex(SailPointContext context, String id) throws GeneralException {
+		HierarchyIndex index = getIndex(context);
+		if (id == null || index.contains(id) || System.currentTimeMillis() - forcedRefreshAt < FORCED_REFRESH_INTERVAL_MS
+				|| !refreshLock.tryLock()) {
+			return index;
+		}
+		try {
+			long now = System.currentTimeMillis();
+			if (now - forcedRefreshAt >= FORCED_REFRESH_INTERVAL_MS) {
+				forcedRefreshAt = now;
+				instance = update(context, instance);
+			}
+		} catch (GeneralException e) {
+			logger.error("Failed to refresh hierarchy index: " + e);
+		} finally {
+			refreshLock.unlock();
+		}
+		return instance;
+	}
+
+	/**
+	 * Refresh the index now and wait for a running refresh, e.g. by the tasks
+	 *
+	 * @param context SailPointContext
+	 * @return HierarchyIndex
+	 * @throws GeneralException
+	 */
+	public static HierarchyIndex refresh(SailPointContext context) throws GeneralException {
+		refreshLock.lock();
+		try {
+			instance = (instance == null ? build(context, 1) : update(context, instance));
+			return instance;
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	/**
+	 * Build the index from scratch now and wait for a running refresh, e.g. by a full rebuild of the closure table.
+	 * Picks up deletes the delta refreshes can not tell from other changes at once instead of at the rebuild interval.
+	 *
+	 * @param context SailPointContext
+	 * @return HierarchyIndex
+	 * @throws GeneralException
+	 */
+	public static HierarchyIndex rebuild(SailPointContext context) throws GeneralException {
+		refreshLock.lock();
+		try {
+			instance = build(context, (instance == null ? 1 : instance.generation + 1));
+			return instance;
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	private static long getRefreshIntervalMs() {
+		int seconds = PluginSettingService.getSettingHierarchyIndexRefreshSeconds();
+		return (seconds > 0 ? seconds : DEFAULT_REFRESH_SECONDS) * 1000L;
+	}
+
+	private static HierarchyIndex update(SailPointContext context, HierarchyIndex index) throws GeneralException {
+		if (System.currentTimeMillis() - index.builtAt > REBUILD_INTERVAL_MS) {
+			return build(context, index.generation + 1);
+		}
+		HierarchyIndex updated = applyDelta(context, index);
+		// The delta added every identity created since the last refresh, so fewer identities in the database
+		// than in the index means a delete, even when it is offset by a create
+		if (context.countObjects(Identity.class, new QueryOptions()) < updated.size()) {
+			return build(context, index.generation + 1);
+		}
+		return updated;
+	}
+
+	private static HierarchyIndex build(SailPointContext context, long generation) throws GeneralException {
+		long start = System.currentTimeMillis();
+		Builder builder = new Builder(new HashMap<>(), new ArrayList<>(), new int[1024], new int[1024], new BitSet());
+		Date watermark = builder.load(context, new QueryOptions(), null);
+		HierarchyIndex index = builder.toIndex(generation, watermark, start);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Built hierarchy index with " + index.size() + " identities in " + (System.currentTimeMillis() - start) + "ms");
+		}
+		return index;
+	}
+
+	private static HierarchyIndex applyDelta(SailPointContext context, HierarchyIndex index) throws GeneralException {
+		QueryOptions qo = new QueryOptions();
+		if (index.watermark != null) {
+			// Greater or equal, rows modified in the same millisecond as the watermark are re-applied
+			qo.add(Filter.or(Filter.ge("modified", index.watermark), Filter.ge("created", index.watermark)));
+		}
+		Builder builder = new Builder(new HashMap<>(index.dictionary), new ArrayList<>(Arrays.asList(index.ids)),
+				Arrays.copyOf(index.managers, index.ids.length), Arrays.copyOf(index.owners, index.ids.length), (BitSet) index.workgroups.clone());
+		Date watermark = builder.load(context, qo, index.watermark);
+		if (builder.changes == 0) {
+			index.watermark = watermark;
+			index.refreshedAt = System.currentTimeMillis();
+			return index;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Applied " + builder.changes + " changes to hierarchy index");
+		}
+		return builder.toIndex(index.generation + 1, watermark, index.builtAt);
+	}
+
+	/**
+	 * Count the children per parent and fill the adjacency array sorted by parent
+	 *
+	 * @param parents int[] parent index per node
+	 * @param offsets int[] filled with the start offset per node
+	 * @return int[] children
+	 */
+	private static int[] buildAdjacency(int[] parents, int[] offsets) {
+		for (int parent : parents) {
+			if (parent != NONE) {
+				offsets[parent + 1]++;
+			}
+		}
+		for (int i = 0; i < parents.length; i++) {
+			offsets[i + 1] += offsets[i];
+		}
+		int[] children = new int[offsets[parents.length]];
+		int[] next = Arrays.copyOf(offsets, parents.length);
+		for (int i = 0; i < parents.length; i++) {
+			if (parents[i] != NONE) {
+				children[next[parents[i]]++] = i;
+			}
+		}
+		return children;
+	}
+
+	public boolean contains(String id) {
+		return dictionary.containsKey(id);
+	}
+
+	public boolean isWorkgroup(String id) {
+		Integer i = dictionary.get(id);
+		return i != null && workgroups.get(i);
+	}
+
+	/**
+	 * Return the manager id of an identity or the owner id of a workgroup, null if none
+	 *
+	 * @param id String
+	 * @return String
+	 */
+	public String getParentId(String id) {
+		Integer i = dictionary.get(id);
+		if (i == null) {
+			return null;
+		}
+		int parent = workgroups.get(i) ? owners[i] : managers[i];
+		return (parent != NONE ? ids[parent] : null);
+	}
+
+	public List<String> getManagedMembers(String id) {
+		return getChildren(id, reportOffsets, reports);
+	}
+
+	public List<String> getOwnedWorkgroups(String id) {
+		return getChildren(id, workgroupOffsets, ownedWorkgroups);
+	}
+
+	/**
+	 * Return the number of managed identities plus owned workgroups
+	 *
+	 * @param id String
+	 * @return int
+	 */
+	public int getManagedCount(String id) {
+		Integer i = dictionary.get(id);
+		if (i == null) {
+			return 0;
+		}
+		int count = workgroupOffsets[i + 1] - workgroupOffsets[i];
+		for (int j = reportOffsets[i]; j < reportOffsets[i + 1]; j++) {
+			if (!workgroups.get(reports[j])) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private List<String> getChildren(String id, int[] offsets, int[] children) {
+		Integer i = dictionary.get(id);
+		if (i == null) {
+			return Collections.emptyList();
+		}
+		List<String> result = new ArrayList<>(offsets[i + 1] - offsets[i]);
+		for (int j = offsets[i]; j < offsets[i + 1]; j++) {
+			result.add(ids[children[j]]);
+		}
+		return result;
+	}
+
+	/**
+	 * Call the consumer with the id and manager id (null if none) of every identity which is not a workgroup
+	 *
+	 * @param consumer BiConsumer<String, String>
+	 */
+	public void forEachManager(BiConsumer<String, String> consumer) {
+		for (int i = 0; i < ids.length; i++) {
+			if (!workgroups.get(i)) {
+				consumer.accept(ids[i], (managers[i] != NONE ? ids[managers[i]] : null));
+			}
+		}
+	}
+
+	public int size() {
+		return ids.length;
+	}
+
+	/**
+	 * Incremented whenever the content of the index changes
+	 *
+	 * @return long
+	 */
+	public long getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Latest modified or created timestamp of all identities as of the last refresh, null if there are none
+	 *
+	 * @return Date
+	 */
+	public Date getWatermark() {
+		return watermark;
+	}
+
+	/**
+	 * Version of the relations and identities as of the last refresh: the generation and the watermark
+	 *
+	 * @return String
+	 */
+	public String getVersion() {
+		Date current = watermark;
+		return generation + ":" + (current != null ? current.getTime() : 0);
+	}
+
+	/**
+	 * Version of the current index without building or refreshing it, empty if it is not built yet
+	 *
+	 * @return String
+	 */
+	public static String getCurrentVersion() {
+		HierarchyIndex index = instance;
+		return (index != null ? index.getVersion() : "");
+	}
+
+	/**
+	 * Mutable arrays used while loading rows from the database
+	 */
+	private static class Builder {
+		private final Map<String, Integer> dictionary;
+		private final List<String> ids;
+		private int[] managers;
+		private int[] owners;
+		private final BitSet workgroups;
+		private int changes = 0;
+
+		private Builder(Map<String, Integer> dictionary, List<String> ids, int[] managers, int[] owners, BitSet workgroups) {
+			this.dictionary = dictionary;
+			this.ids = ids;
+			this.managers = managers;
+			this.owners = owners;
+			this.workgroups = workgroups;
+			Arrays.fill(this.managers, ids.size(), this.managers.length, NONE);
+			Arrays.fill(this.owners, ids.size(), this.owners.length, NONE);
+		}
+
+		private Date load(SailPointContext context, QueryOptions qo, Date watermark) throws GeneralException {
+			Iterator<Object[]> it = context.search(Identity.class, qo, INDEX_PROPERTIES);
+			while (it.hasNext()) {
+				Object[] row = it.next();
+				int size = ids.size();
+				int i = intern(Util.otos(row[0]));
+				boolean workgroup = Util.otob(row[3]);
+				int manager = (row[1] != null ? intern(Util.otos(row[1])) : NONE);
+				int owner = (workgroup && row[2] != null ? intern(Util.otos(row[2])) : NONE);
+				if (ids.size() > size || workgroups.get(i) != workgroup || managers[i] != manager || owners[i] != owner) {
+					workgroups.set(i, workgroup);
+					managers[i] = manager;
+					owners[i] = owner;
+					changes++;
+				}
+				watermark = max(watermark, (Date) row[4]);
+				watermark = max(watermark, (Date) row[5]);
+			}
+			Util.flushIterator(it);
+			return watermark;
+		}
+
+		private int intern(String id) {
+			Integer i = dictionary.get(id);
+			if (i == null) {
+				i = ids.size();
+				dictionary.put(id, i);
+				ids.add(id);
+				if (i >= managers.length) {
+					int length = Math.max(1024, managers.length * 2);
+					managers = Arrays.copyOf(managers, length);
+					owners = Arrays.copyOf(owners, length);
+					Arrays.fill(managers, i, length, NONE);
+					Arrays.fill(owners, i, length, NONE);
+				}
+			}
+			return i;
+		}
+
+		private static Date max(Date a, Date b) {
+			if (a == null) {
+				return b;
+			}
+			return (b != null && b.after(a) ? b : a);
+		}
+
+		private HierarchyIndex toIndex(long generation, Date watermark, long builtAt) {
+			int size = ids.size();
+			return new HierarchyIndex(dictionary, ids.toArray(new String[size]), Arrays.copyOf(managers, size),
+					Arrays.copyOf(owners, size), workgroups, generation, watermark, builtAt);
+		}
+	}
+}
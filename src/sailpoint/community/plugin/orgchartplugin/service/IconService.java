@@ -0,0 +1,247 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.imageio.ImageIO;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.community.plugin.orgchartplugin.util.Util;
+import sailpoint.object.Filter;
+import sailpoint.object.Identity;
+import sailpoint.object.QueryOptions;
+import sailpoint.tools.GeneralException;
+
+/**
+ * Serves the identity icon images stored in base64 format in the identity attribute configured by the
+ * identityIconImgAttribute setting. The images are decoded once, resized to thumbnails and kept in a
+ * bounded on-disk cache keyed by the hash of the attribute value. The icons are counted in memory, the
+ * oldest are pruned in one pass when the count exceeds the bound.
+ *
+ * Only raster images ImageIO can decode are accepted and they are always re-encoded to PNG, the stored
+ * bytes are never sent as they are. Anything else, e.g. SVG or HTML, is rejected.
+ */
+public class IconService {
+
+	public static final Log logger = LogFactory.getLog(IconService.class);
+
+	public static final int DEFAULT_SIZE = 120;
+	private static final int MAX_SIZE = 512;
+	private static final int MAX_CACHED_ICONS = 5000;
+	private static final int PRUNED_CACHED_ICONS = MAX_CACHED_ICONS * 9 / 10;
+	public static final String MIME_TYPE = "image/png";
+	// Types a data url may declare, the bytes still have to be decodable by ImageIO
+	private static final List<String> RASTER_MIME_TYPES = Arrays.asList("image/png", "image/jpeg", "image/jpg", "image/gif", "image/bmp");
+	private static final File CACHE_DIR = new File(System.getProperty("java.io.tmpdir"), "orgchartplugin" + File.separator + "icons");
+
+	// Approximate number of cached icons, -1 until the directory was counted, corrected by every prune
+	private static final AtomicInteger cachedIcons = new AtomicInteger(-1);
+	private static final ReentrantLock pruneLock = new ReentrantLock();
+
+	/**
+	 * Decoded icon ready to be sent to the browser, always a PNG image
+	 */
+	public static class Icon {
+		private final byte[] bytes;
+		private final String hash;
+
+		private Icon(byte[] bytes, String hash) {
+			this.bytes = bytes;
+			this.hash = hash;
+		}
+
+		public byte[] getBytes() {
+			return bytes;
+		}
+
+		public String getHash() {
+			return hash;
+		}
+	}
+
+	/**
+	 * Return the hash of the base64 icon value, used as ETag and as version in the icon url of the node maps
+	 *
+	 * @param iconImg String base64 value, optionally as data url
+	 * @return String
+	 */
+	public static String getIconHash(String iconImg) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			byte[] hash = digest.digest(iconImg.getBytes(StandardCharsets.UTF_8));
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < 10; i++) {
+				sb.append(String.format("%02x", hash[i]));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(iconImg.hashCode());
+		}
+	}
+
+	/**
+	 * Decode the icon and resize it to fit into size x size pixels
+	 *
+	 * @param id String identity id, for logging
+	 * @param iconImg String base64 value as returned by getIconImg
+	 * @param size int
+	 * @return Icon null if the value is no raster image
+	 * @throws GeneralException
+	 */
+	public static Icon getIcon(String id, String iconImg, int size) throws GeneralException {
+		size = Math.min(size > 0 ? size : DEFAULT_SIZE, MAX_SIZE);
+		String hash = getIconHash(iconImg);
+		File cached = new File(CACHE_DIR, hash + "_" + size + ".png");
+		if (cached.isFile()) {
+			try {
+				return new Icon(Files.readAllBytes(cached.toPath()), hash);
+			} catch (IOException e) {
+				logger.warn("Failed to read cached icon " + cached + ": " + e);
+			}
+		}
+		String data = iconImg.trim();
+		// data:image/png;base64,....
+		if (data.startsWith("data:")) {
+			int pos = data.indexOf(',');
+			int end = data.indexOf(';');
+			String mimeType = (end > 5 && end < pos ? data.substring(5, end).trim().toLowerCase() : null);
+			if (pos < 0 || !RASTER_MIME_TYPES.contains(mimeType)) {
+				logger.warn("Icon of identity " + id + " is no raster image: " + mimeType);
+				return null;
+			}
+			data = data.substring(pos + 1);
+		}
+		byte[] bytes;
+		try {
+			bytes = Base64.getMimeDecoder().decode(data);
+		} catch (IllegalArgumentException e) {
+			throw new GeneralException("Invalid icon image of identity " + id + ": " + e.getMessage());
+		}
+		byte[] thumbnail = resize(bytes, size);
+		if (thumbnail == null) { // Not readable by ImageIO, e.g. SVG
+			logger.warn("Icon of identity " + id + " can not be decoded");
+			return null;
+		}
+		store(cached, thumbnail);
+		return new Icon(thumbnail, hash);
+	}
+
+	/**
+	 * Return the base64 icon value of the identity, null if none is set
+	 *
+	 * @param context SailPointContext
+	 * @param id String
+	 * @param settings PluginSettings
+	 * @return String
+	 * @throws GeneralException
+	 */
+	public static String getIconImg(SailPointContext context, String id, PluginSettings settings) throws GeneralException {
+		String iconImgAttr = settings.getIdentityIconImgAttribute();
+		if (Util.isNullOrEmpty(iconImgAttr)) {
+			return null;
+		}
+		QueryOptions qo = new QueryOptions();
+		qo.add(Filter.eq("id", id));
+		Iterator<Object[]> it = context.search(Identity.class, qo, "attributes");
+		String iconImg = null;
+		if (it.hasNext()) {
+			Object attributes = it.next()[0];
+			if (attributes instanceof Map) {
+				iconImg = Util.otos(((Map<?, ?>) attributes).get(iconImgAttr));
+			}
+		}
+		Util.flushIterator(it);
+		return (Util.isNotNullOrEmpty(iconImg) ? iconImg : null);
+	}
+
+	private static byte[] resize(byte[] bytes, int size) {
+		try {
+			BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+			if (image == null) {
+				return null;
+			}
+			double scale = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+			int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+			int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+			BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D g = thumbnail.createGraphics();
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+			g.drawImage(image, 0, 0, width, height, null);
+			g.dispose();
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			ImageIO.write(thumbnail, "png", out);
+			return out.toByteArray();
+		} catch (IOException e) {
+			logger.warn("Failed to resize icon: " + e);
+			return null;
+		}
+	}
+
+	private static void store(File file, byte[] bytes) {
+		try {
+			Files.createDirectories(CACHE_DIR.toPath());
+			boolean replaced = file.isFile();
+			File tmp = File.createTempFile("icon", ".tmp", CACHE_DIR);
+			Files.write(tmp.toPath(), bytes);
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			// The directory is only listed for the first count and when the cache is full
+			if (cachedIcons.get() < 0) {
+				cachedIcons.compareAndSet(-1, listIcons().length);
+			} else if (!replaced) {
+				cachedIcons.incrementAndGet();
+			}
+			if (cachedIcons.get() > MAX_CACHED_ICONS && pruneLock.tryLock()) {
+				try {
+					prune();
+				} finally {
+					pruneLock.unlock();
+				}
+			}
+		} catch (IOException e) {
+			logger.warn("Failed to cache icon " + file + ": " + e);
+		}
+	}
+
+	/**
+	 * Drop the oldest icons down to PRUNED_CACHED_ICONS, so the next prune is due only after that many new icons
+	 */
+	private static void prune() throws IOException {
+		File[] files = listIcons();
+		if (files.length > PRUNED_CACHED_ICONS) {
+			Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+			for (int i = 0; i < files.length - PRUNED_CACHED_ICONS; i++) {
+				Files.deleteIfExists(files[i].toPath());
+			}
+		}
+		cachedIcons.set(Math.min(files.length, PRUNED_CACHED_ICONS));
+		if (logger.isDebugEnabled()) {
+			logger.debug("Pruned icon cache from " + files.length + " icons");
+		}
+	}
+
+	private static File[] listIcons() {
+		File[] files = CACHE_DIR.listFiles((dir, name) -> name.endsWith(".png"));
+		return (files != null ? files : new File[0]);
+	}
+}
@@ -1,31 +1,36 @@
 package sailpoint.community.plugin.orgchartplugin.service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
-import sailpoint.api.IdIterator;
-import sailpoint.api.ObjectUtil;
 import sailpoint.api.SailPointContext;
 import sailpoint.community.plugin.orgchartplugin.util.Util;
 import sailpoint.object.Bundle;
 import sailpoint.object.Filter;
 import sailpoint.object.Identity;
 import sailpoint.object.ManagedAttribute;
-import sailpoint.object.ObjectConfig;
 import sailpoint.object.PolicyViolation;
 import sailpoint.object.QueryOptions;
 import sailpoint.object.RoleAssignment;
+import sailpoint.object.RoleTarget;
+import sailpoint.object.SailPointObject;
 import sailpoint.tools.GeneralException;
-import sailpoint.tools.JsonHelper;
 
 public class IdentityService {
 	
@@ -33,6 +38,7 @@ public class IdentityService {
 	private static final String ATTR_INACTIVE = "inactive";
 	private static final String ATT_MEMBERSHIP_COUNT = "membershipCount";
 	private static final String ATTR_IDENTITY_ICON_IMG_ATTRIBUTE = "identityIconImgAttribute";
+	private static final String ATTR_ICON_HASH = "iconHash";
 	private static final String ATTR_MEMBER_COUNT = "memberCount";
 	private static final String ATTR_ATTRIBUTES = "attributes";
 	private static final String ATTR_ID = "id";
@@ -42,22 +48,98 @@ public class IdentityService {
 	private static final String ATTR_COLOR_CODE = "colorCode";
 	private static final String ATTR_PARENT = "parentId";
 	private static final String TYPE_WORKGROUP = "workgroup";
-	private static final String TYPE_DEFAULT = "default";
+	private static final String TYPE_PLACEHOLDER = "placeholder";
+	private static final String ATTR_PLACEHOLDER = "placeholder";
+	private static final String ATTR_REMAINING_COUNT = "remainingCount";
+	private static final String ATTR_CURSOR = "cursor";
+	private static final String CURSOR_SEPARATOR = ":";
 	
 	
 	public static final Log logger = LogFactory.getLog(IdentityService.class);
 	
+	/**
+	 * Receives the node maps one by one while they are built
+	 */
+	public interface NodeConsumer {
+		void accept(Map<String, Object> node) throws GeneralException;
+	}
+	
+	// Keep the Filter.in clauses well below the bind parameter limit of the databases
+	static final int QUERY_CHUNK_SIZE = 100;
+	private static final List<String> NODE_PROPERTIES = Arrays.asList("id", "name", "displayName", "workgroup", "type",
+			"inactive", "manager.id", "owner.id", "description", "attributes");
+	private static final List<String> OWNED_ENTITLEMENT_PROPERTIES = Arrays.asList("application.name", "value", "displayName", "name");
+	private static final List<String> MEMBER_PROPERTIES = Arrays.asList("id", "name", "displayName");
+	private static final List<String> OWNED_ROLE_PROPERTIES = Arrays.asList("name", "displayName");
+	public static final int DEFAULT_PAGE_SIZE = 100;
+	private static final int MAX_PAGE_SIZE = 1000;
+	
 	public static List<Map<String, Object>> getTreeNodes(SailPointContext context, String id) throws GeneralException {
-		Identity identity = context.getObjectById(Identity.class, id);
-		if (identity == null) {
-			throw new GeneralException("Can not find identity object: " + id);
+		return getTreeNodes(context, id, PluginSettingService.getSettings());
+	}
+	
+	public static List<Map<String, Object>> getTreeNodes(SailPointContext context, String id, PluginSettings settings) throws GeneralException {
+		List<Map<String, Object>> nodes = new ArrayList<>();
+		getTreeNodes(context, id, settings, nodes::add);
+		if (logger.isTraceEnabled()) {
+			logger.trace("Exit getTreeNodes, nodes: " + nodes);
 		}
+		return nodes;
+	}
+	
+	/**
+	 * Build the nodes of the org chart around the identity and hand each node to the consumer as soon as it is built
+	 * 
+	 * @param context SailPointContext
+	 * @param id String
+	 * @param settings PluginSettings
+	 * @param consumer NodeConsumer
+	 * @throws GeneralException
+	 */
+	public static void getTreeNodes(SailPointContext context, String id, PluginSettings settings, NodeConsumer consumer) throws GeneralException {
+		getTreeNodes(context, id, settings, 1, 0, consumer);
+	}
+	
+	public static List<Map<String, Object>> getTreeNodes(SailPointContext context, String id, PluginSettings settings, 
+			int depth, int maxChildren) throws GeneralException {
 		List<Map<String, Object>> nodes = new ArrayList<>();
+		getTreeNodes(context, id, settings, depth, maxChildren, nodes::add);
+		return nodes;
+	}
+	
+	/**
+	 * Build the nodes of the org chart around the identity: the managers up to the configured levels, the siblings 
+	 * and the reports down to the given depth. With maxChildren every list of reports and siblings is cut after 
+	 * maxChildren nodes, the rest is represented by a placeholder node with the remaining count and the cursor 
+	 * to load the next page with getChildNodes.
+	 * 
+	 * @param context SailPointContext
+	 * @param id String
+	 * @param settings PluginSettings
+	 * @param depth int levels of reports, 1 returns the direct reports only
+	 * @param maxChildren int maximum nodes per list of reports, 0 for all
+	 * @param consumer NodeConsumer
+	 * @throws GeneralException
+	 */
+	public static void getTreeNodes(SailPointContext context, String id, PluginSettings settings, int depth, int maxChildren, 
+			NodeConsumer consumer) throws GeneralException {
+		HierarchyIndex index = RequestMetrics.time("hierarchy", () -> HierarchyIndex.getIndex(context, id));
+		if (!index.contains(id)) {
+			throw new GeneralException("Can not find identity object: " + id);
+		}
 		List<String> all = new ArrayList<>();
-		List<String> childs = getChilds(context, id);
-		logger.trace("childs: " + childs);
-		all.addAll(childs);
-		List<String> parents = getParents(context, identity, PluginSettingService.getSettingManagerLevels(), new ArrayList<>());
+		List<Map<String, Object>> placeholders = new ArrayList<>();
+		List<String> level = Collections.singletonList(id);
+		for (int i = 0; i < Math.max(1, depth) && !level.isEmpty(); i++) {
+			List<String> next = new ArrayList<>();
+			for (String parentId : level) {
+				next.addAll(getChildPage(index, parentId, 0, maxChildren, null, placeholders));
+			}
+			logger.trace("childs: " + next);
+			all.addAll(next);
+			level = next;
+		}
+		List<String> parents = getParents(index, id, settings.getManagerLevels(), new ArrayList<>());
 		String rootId = null;
 		if (Util.nullSafeSize(parents) > 0) {
 			rootId = parents.get(parents.size() - 1);
@@ -66,281 +148,500 @@ public class IdentityService {
 		}
 		logger.trace("parents: " + parents);
 		all.addAll(parents);
-		List<String> siblings = getSiblings(context, identity);
+		String parentId = index.getParentId(id);
+		// The identity itself is always shown, the pages of its siblings leave it out
+		List<String> siblings = new ArrayList<>();
+		siblings.add(id);
+		if (parentId != null) {
+			siblings.addAll(getChildPage(index, parentId, 0, maxChildren, id, placeholders));
+		}
 		logger.trace("siblings: " + siblings);
 		all.addAll(siblings);
 		Util.removeDuplicates(all);
-		for (String _id : Util.safeIterable(all)) {
-			Identity node;
-			try {
-				node = context.getObjectById(Identity.class, _id);
-			} catch (GeneralException e) {
-				// TODO: enhance with error handling
-				logger.error("Failed to retrieve Identity object(" + _id + "): " + e);
-				continue;
-			}
-			// Mandatory attributes: id, name, parentId, displayName
-			try {
-				nodes.add(getNodeMap(context, node, rootId));
-			} catch (GeneralException e) {
-				// TODO: enhance with error handling
-				logger.error("Failed to build node map(" + _id + "): " + e);
-				continue;
-			}
+		// Mandatory attributes: id, name, parentId, displayName
+		getNodeMaps(context, all, rootId, settings, consumer);
+		for (Map<String, Object> placeholder : placeholders) {
+			consumer.accept(placeholder);
 		}
-		if (logger.isTraceEnabled()) {
-			logger.trace("Exit getTreeNodes, nodes: " + nodes);
+	}
+	
+	/**
+	 * Build the next page of reports and owned workgroups of the manager the cursor points to, 
+	 * followed by a placeholder node if there are more
+	 * 
+	 * @param context SailPointContext
+	 * @param cursor String cursor of a placeholder node
+	 * @param settings PluginSettings
+	 * @param maxChildren int maximum nodes of the page, 0 for all remaining
+	 * @return List<Map<String, Object>>
+	 * @throws GeneralException
+	 */
+	public static List<Map<String, Object>> getChildNodes(SailPointContext context, String cursor, PluginSettings settings, 
+			int maxChildren) throws GeneralException {
+		String decoded;
+		try {
+			decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new GeneralException("Invalid cursor: " + cursor);
 		}
+		// parentId:offset, followed by :excludedId for the pages of siblings
+		String[] parts = decoded.split(CURSOR_SEPARATOR, 3);
+		if (parts.length < 2 || parts[0].isEmpty()) {
+			throw new GeneralException("Invalid cursor: " + cursor);
+		}
+		return getChildNodes(context, parts[0], Util.atoi(parts[1]), (parts.length > 2 ? parts[2] : null), settings, maxChildren);
+	}
+	
+	/**
+	 * Build one page of reports and owned workgroups of the manager, followed by a placeholder node if there are more
+	 * 
+	 * @param context SailPointContext
+	 * @param parentId String
+	 * @param offset int
+	 * @param settings PluginSettings
+	 * @param maxChildren int maximum nodes of the page, 0 for all remaining
+	 * @return List<Map<String, Object>>
+	 * @throws GeneralException
+	 */
+	public static List<Map<String, Object>> getChildNodes(SailPointContext context, String parentId, int offset, PluginSettings settings, 
+			int maxChildren) throws GeneralException {
+		return getChildNodes(context, parentId, offset, null, settings, maxChildren);
+	}
+	
+	private static List<Map<String, Object>> getChildNodes(SailPointContext context, String parentId, int offset, String excludedId, 
+			PluginSettings settings, int maxChildren) throws GeneralException {
+		HierarchyIndex index = RequestMetrics.time("hierarchy", () -> HierarchyIndex.getIndex(context));
+		List<Map<String, Object>> placeholders = new ArrayList<>();
+		List<String> childs = getChildPage(index, parentId, offset, maxChildren, excludedId, placeholders);
+		List<Map<String, Object>> nodes = getNodeMaps(context, childs, null, settings);
+		nodes.addAll(placeholders);
 		return nodes;
 	}
 	
-	public static List<String> getChilds(SailPointContext context, String id) throws GeneralException {
-		List<String> childs = new ArrayList<>();
-		childs.addAll(getManagedMembers(context, id));
-		childs.addAll(getOwnedWorkgroups(context, id));
-		return childs;
+	/**
+	 * Build the reports and owned workgroups of several managers down to the given depth in one pass. 
+	 * Nodes reachable from more than one of the managers are built once, the node maps of all levels 
+	 * are fetched together by the chunked queries of getNodeMaps.
+	 * 
+	 * @param context SailPointContext
+	 * @param parentIds List<String>
+	 * @param depth int levels of reports, 1 returns the direct reports only
+	 * @param settings PluginSettings
+	 * @param maxChildren int maximum nodes per list of reports, 0 for all
+	 * @return List<Map<String, Object>>
+	 * @throws GeneralException
+	 */
+	public static List<Map<String, Object>> getChildNodes(SailPointContext context, List<String> parentIds, int depth, 
+			PluginSettings settings, int maxChildren) throws GeneralException {
+		HierarchyIndex index = RequestMetrics.time("hierarchy", () -> HierarchyIndex.getIndex(context));
+		List<Map<String, Object>> placeholders = new ArrayList<>();
+		Set<String> visited = new LinkedHashSet<>(parentIds);
+		List<String> all = new ArrayList<>();
+		List<String> level = new ArrayList<>(visited);
+		for (int i = 0; i < Math.max(1, depth) && !level.isEmpty(); i++) {
+			List<String> next = new ArrayList<>();
+			for (String parentId : level) {
+				for (String childId : getChildPage(index, parentId, 0, maxChildren, null, placeholders)) {
+					// Skip nodes already reached from another manager, also ends manager loops
+					if (visited.add(childId)) {
+						next.add(childId);
+					}
+				}
+			}
+			all.addAll(next);
+			level = next;
+		}
+		List<Map<String, Object>> nodes = getNodeMaps(context, all, null, settings);
+		nodes.addAll(placeholders);
+		return nodes;
 	}
 	
-	private static List<String> getManagedMembers(SailPointContext context, String id) throws GeneralException {
-		List<String> members = new ArrayList<>();
-		QueryOptions qo = new QueryOptions();
-		Filter filter = Filter.eq("manager.id", id);
-		qo.add(filter);
-		Iterator<Object[]> it = context.search(Identity.class, qo, "id");
-		IdIterator idIt = new IdIterator(context, it);
-		while (idIt.hasNext()) {
-			String _id = idIt.next();
-			members.add(_id);
+	/**
+	 * Return the ids of one page of reports and owned workgroups, add a placeholder node if more remain
+	 * 
+	 * @param index HierarchyIndex
+	 * @param parentId String
+	 * @param offset int
+	 * @param maxChildren int 0 for all
+	 * @param excludedId String child left out of the pages and counts, e.g. the identity shown anyway, null for none
+	 * @param placeholders List<Map<String, Object>>
+	 * @return List<String>
+	 */
+	private static List<String> getChildPage(HierarchyIndex index, String parentId, int offset, int maxChildren, String excludedId,
+			List<Map<String, Object>> placeholders) {
+		List<String> childs = getChilds(index, parentId);
+		if (excludedId != null) {
+			childs.remove(excludedId);
+		}
+		int from = Math.min(Math.max(0, offset), childs.size());
+		int to = (maxChildren > 0 ? Math.min(childs.size(), from + maxChildren) : childs.size());
+		if (to < childs.size()) {
+			placeholders.add(getPlaceholderNodeMap(parentId, to, childs.size() - to, excludedId));
 		}
-		return members;
+		return new ArrayList<>(childs.subList(from, to));
 	}
 	
-	private static int getManagedCount(SailPointContext context, String id) throws GeneralException {
-		QueryOptions qo = new QueryOptions();
-		Filter filter1 = Filter.and(Filter.eq("manager.id", id), Filter.eq("workgroup", false));
-		Filter filter2 = Filter.and(Filter.eq("owner.id", id), Filter.eq("workgroup", true));
-		Filter filter = Filter.or(filter1, filter2);
-		qo.add(filter);
-		return context.countObjects(Identity.class, qo);
+	private static Map<String, Object> getPlaceholderNodeMap(String parentId, int offset, int remaining, String excludedId) {
+		Map<String, Object> map = new HashMap<>();
+		// One placeholder per parent, the next page replaces it
+		map.put(ATTR_ID, TYPE_PLACEHOLDER + ":" + parentId);
+		map.put(ATTR_NAME, "");
+		map.put(ATTR_DISPLAYNAME, "+" + remaining);
+		map.put(ATTR_TYPE, TYPE_PLACEHOLDER);
+		map.put(ATTR_PARENT, parentId);
+		map.put(ATTR_PLACEHOLDER, true);
+		map.put(ATTR_REMAINING_COUNT, remaining);
+		map.put(ATTR_CURSOR, Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((parentId + CURSOR_SEPARATOR + offset + (excludedId != null ? CURSOR_SEPARATOR + excludedId : ""))
+						.getBytes(StandardCharsets.UTF_8)));
+		map.put(ATT_MANAGES_COUNT, 0);
+		return map;
 	}
 	
-	private static List<String> getOwnedWorkgroups(SailPointContext context, String id) throws GeneralException {
-		List<String> workgroups = new ArrayList<>();
-		QueryOptions qo = new QueryOptions();
-		Filter filter = Filter.and(Filter.eq("owner.id", id), Filter.eq("workgroup", true));
-		qo.add(filter);
-		Iterator<Object[]> it = context.search(Identity.class, qo, "id");
-		IdIterator idIt = new IdIterator(context, it);
-		while (idIt.hasNext()) {
-			String _id = idIt.next();
-			workgroups.add(_id);
-		}
-		return workgroups;
+	public static List<String> getChilds(SailPointContext context, String id) throws GeneralException {
+		return getChilds(HierarchyIndex.getIndex(context), id);
+	}
+	
+	private static List<String> getChilds(HierarchyIndex index, String id) {
+		List<String> childs = new ArrayList<>();
+		childs.addAll(index.getManagedMembers(id));
+		childs.addAll(index.getOwnedWorkgroups(id));
+		return childs;
 	}
 	
-	public static List<String> getParents(SailPointContext context, Identity identity, int level, List<String> reportTos) {
+	public static List<String> getParents(HierarchyIndex index, String id, int level, List<String> reportTos) {
 		logger.trace("getParents, level: " + level);
-		logger.trace("getParents, identityName: " + identity.getName());
+		logger.trace("getParents, identityId: " + id);
 		logger.trace("getParents, reportTos: " + reportTos);
 		if (level == 0) {
 			return reportTos;
 		} else {
-			if (identity.getManager() != null) {
-				String managerId = identity.getManager().getId();
-				if (reportTos.contains(managerId)) {
-					// Close loop found
-					return reportTos;
-				} else {
-					reportTos.add(managerId);
-					return getParents(context, identity.getManager(), --level, reportTos);
-				}
-			} else if (identity.isWorkgroup() && identity.getOwner() != null) { // Workgroup
-				String ownerId = identity.getOwner().getId();
-				if (reportTos.contains(ownerId)) {
-					// Close loop found
-					return reportTos;
-				} else {
-					reportTos.add(ownerId);
-					return getParents(context, identity.getOwner(), --level, reportTos);
-				}
-			} else {
+			String parentId = index.getParentId(id);
+			if (parentId == null || reportTos.contains(parentId)) {
+				// Top reached or close loop found
 				return reportTos;
 			}
+			reportTos.add(parentId);
+			return getParents(index, parentId, --level, reportTos);
 		}
 	}
 	
 	/**
 	 * Return siblings including self
 	 * 
-	 * @param context
-	 * @param identity
+	 * @param index
+	 * @param id
 	 * @return
-	 * @throws GeneralException
 	 */
-	public static List<String> getSiblings(SailPointContext context, Identity identity) throws GeneralException {
+	public static List<String> getSiblings(HierarchyIndex index, String id) {
 		List<String> siblings = new ArrayList<>();
-		Identity parent = null;
-		if (identity.isWorkgroup()) {
-			parent = identity.getOwner();
-		} else {
-			parent = identity.getManager();
-		}		
-		if (parent != null) {
-			siblings = getChilds(context, parent.getId());
+		String parentId = index.getParentId(id);
+		if (parentId != null) {
+			siblings = getChilds(index, parentId);
 		} else { // No manager or owner
-			siblings.add(identity.getId());
+			siblings.add(id);
 		}
 		return siblings;
 	}
 	
-	// TODO: enhance the loading attribute logic
+	/**
+	 * Build the node map of one identity with getNodeMaps
+	 * 
+	 * @param context SailPointContext
+	 * @param node Identity
+	 * @param rootId String
+	 * @return Map<String, Object>
+	 * @throws GeneralException if the identity does not exist anymore, getNodeMaps skipped it
+	 */
 	public static Map<String, Object> getNodeMap(SailPointContext context, Identity node, String rootId) throws GeneralException {
+		List<Map<String, Object>> nodes = getNodeMaps(context, Collections.singletonList(node.getId()), rootId);
+		if (nodes.isEmpty()) {
+			throw new GeneralException("Can not find identity object: " + node.getId());
+		}
+		return nodes.get(0);
+	}
+	
+	public static List<Map<String, Object>> getNodeMaps(SailPointContext context, List<String> ids, String rootId) throws GeneralException {
+		return getNodeMaps(context, ids, rootId, PluginSettingService.getSettings());
+	}
+	
+	public static List<Map<String, Object>> getNodeMaps(SailPointContext context, List<String> ids, String rootId, PluginSettings settings) throws GeneralException {
+		List<Map<String, Object>> nodes = new ArrayList<>();
+		getNodeMaps(context, ids, rootId, settings, nodes::add);
+		if (logger.isTraceEnabled()) {
+			logger.trace("Exit getNodeMaps, nodes: " + nodes);
+		}
+		return nodes;
+	}
+	
+	/**
+	 * Build the node maps for the given identity and workgroup ids with projection queries, 
+	 * the card columns are fetched in chunks so no Identity object is loaded into the session. 
+	 * The session is not cleared, objects the caller holds on the context stay attached. 
+	 * The nodes are handed to the consumer in the order of the ids. Ids without an Identity, e.g. deleted since 
+	 * the last refresh of the hierarchy index, are skipped, so the result has fewer nodes than ids. A node 
+	 * which fails to build fails the whole call with its GeneralException.
+	 * 
+	 * @param context SailPointContext
+	 * @param ids List<String>
+	 * @param rootId String
+	 * @param settings PluginSettings
+	 * @param consumer NodeConsumer
+	 * @throws GeneralException
+	 */
+	public static void getNodeMaps(SailPointContext context, List<String> ids, String rootId, PluginSettings settings, NodeConsumer consumer) throws GeneralException {
 		if (logger.isTraceEnabled()) {
-			logger.trace("Enter getNodeMap...");
-			logger.trace("Node: " + node.getName());
+			logger.trace("Enter getNodeMaps...");
+			logger.trace("Ids: " + ids);
 			logger.trace("Root Id: " + rootId);
 		}
-		Map<String, Object> nodeMap = new HashMap<>();
-		nodeMap.put(ATTR_ID, node.getId());
-		nodeMap.put(ATTR_NAME, node.getName());
-		nodeMap.put(ATTR_DISPLAYNAME, node.getDisplayableName());
-		if (node.isWorkgroup()) {
-			nodeMap.putAll(getWorkgroupNodeMap(context, node, rootId));
-		} else {
-			nodeMap.putAll(getIdentityNodeMap(context, node, rootId));
+		HierarchyIndex index = RequestMetrics.time("hierarchy", () -> HierarchyIndex.getIndex(context));
+		// Projection queries only, nothing is loaded into the session of the caller
+		for (List<String> chunk : Util.partition(ids, QUERY_CHUNK_SIZE)) {
+			Map<String, NodeRow> rows = RequestMetrics.time("nodeRows", () -> getNodeRows(context, chunk));
+			List<String> identityIds = rows.values().stream().filter(row -> !row.workgroup).map(row -> row.id).collect(Collectors.toList());
+			Map<String, List<String>> workgroups = RequestMetrics.time("relations", () -> getRelationIds(context, identityIds, "workgroups.id"));
+			Map<String, List<String>> assignedRoles = RequestMetrics.time("relations", () -> getRelationIds(context, identityIds, "assignedRoles.id"));
+			Map<String, List<String>> detectedRoles = RequestMetrics.time("relations", () -> getRelationIds(context, identityIds, "bundles.id"));
+			List<String> workgroupIds = rows.values().stream().filter(row -> row.workgroup).map(row -> row.id).collect(Collectors.toList());
+			Map<String, Integer> memberCounts = new HashMap<>();
+			if (!workgroupIds.isEmpty()) {
+				memberCounts = RequestMetrics.time("memberCounts",
+						() -> getGroupedCounts(context, Identity.class, Filter.in("workgroups.id", workgroupIds), "workgroups.id"));
+			}
+			Map<String, Integer> policyViolationsCounts = new HashMap<>();
+			if (!identityIds.isEmpty()) {
+				policyViolationsCounts = RequestMetrics.time("policyViolations", () -> getGroupedCounts(context, PolicyViolation.class, 
+						Filter.and(Filter.in("identity.id", identityIds), Filter.eq("active", true)), "identity.id"));
+			}
+			long start = System.nanoTime();
+			for (String _id : chunk) {
+				NodeRow row = rows.get(_id);
+				if (row == null) {
+					// Deleted since the last refresh of the hierarchy index
+					if (logger.isDebugEnabled()) {
+						logger.debug("Skipping unknown identity id: " + _id);
+					}
+					continue;
+				}
+				Map<String, Object> nodeMap = new HashMap<>();
+				nodeMap.put(ATTR_ID, row.id);
+				nodeMap.put(ATTR_NAME, row.name);
+				nodeMap.put(ATTR_DISPLAYNAME, (row.displayName != null ? row.displayName : row.name));
+				if (row.workgroup) {
+					nodeMap.putAll(getWorkgroupNodeMap(context, row, rootId, settings, memberCounts.getOrDefault(_id, 0)));
+				} else {
+					nodeMap.putAll(getIdentityNodeMap(row, rootId, settings, workgroups.get(_id), assignedRoles.get(_id), detectedRoles.get(_id)));
+					nodeMap.put("policyViolationsCount", policyViolationsCounts.getOrDefault(_id, 0));
+				}
+				nodeMap.put(ATT_MANAGES_COUNT, index.getManagedCount(_id));
+				consumer.accept(nodeMap);
+				RequestMetrics.addNodes(1);
+			}
+			RequestMetrics.Request request = RequestMetrics.current();
+			if (request != null) {
+				request.addStage("nodeMaps", System.nanoTime() - start);
+			}
 		}
-		
-		if (logger.isTraceEnabled()) {
-			logger.trace("Exit getNodeMap, nodeMap: " + nodeMap);
+	}
+	
+	private static Map<String, NodeRow> getNodeRows(SailPointContext context, List<String> ids) throws GeneralException {
+		Map<String, NodeRow> rows = new HashMap<>();
+		QueryOptions qo = new QueryOptions();
+		qo.add(Filter.in("id", ids));
+		Iterator<Object[]> it = context.search(Identity.class, qo, NODE_PROPERTIES);
+		while (it.hasNext()) {
+			NodeRow row = new NodeRow(it.next());
+			rows.put(row.id, row);
+		}
+		Util.flushIterator(it);
+		return rows;
+	}
+	
+	/**
+	 * Return the ids of a collection property (e.g. workgroups.id) per identity id
+	 * 
+	 * @param context
+	 * @param ids
+	 * @param property
+	 * @return
+	 * @throws GeneralException
+	 */
+	static Map<String, List<String>> getRelationIds(SailPointContext context, List<String> ids, String property) throws GeneralException {
+		Map<String, List<String>> result = new HashMap<>();
+		if (Util.isEmpty(ids)) {
+			return result;
+		}
+		QueryOptions qo = new QueryOptions();
+		qo.add(Filter.in("id", ids));
+		Iterator<Object[]> it = context.search(Identity.class, qo, Arrays.asList("id", property));
+		while (it.hasNext()) {
+			Object[] row = it.next();
+			String relationId = Util.otos(row[1]);
+			if (relationId != null) {
+				result.computeIfAbsent(Util.otos(row[0]), k -> new ArrayList<>()).add(relationId);
+			}
 		}
-		return nodeMap;
+		Util.flushIterator(it);
+		return result;
 	}
 
-	private static Map<String, Object> getWorkgroupNodeMap(SailPointContext context, Identity node, String rootId) throws GeneralException {
+	/**
+	 * Run a count(*) projection grouped by the given property and return the counts per property value
+	 * 
+	 * @param context
+	 * @param clazz
+	 * @param filter
+	 * @param groupBy
+	 * @return
+	 * @throws GeneralException
+	 */
+	private static <T extends SailPointObject> Map<String, Integer> getGroupedCounts(SailPointContext context, Class<T> clazz, Filter filter, String groupBy) throws GeneralException {
+		Map<String, Integer> counts = new HashMap<>();
+		QueryOptions qo = new QueryOptions();
+		qo.add(filter);
+		qo.addGroupBy(groupBy);
+		Iterator<Object[]> it = context.search(clazz, qo, Arrays.asList(groupBy, "count(*)"));
+		while (it.hasNext()) {
+			Object[] row = it.next();
+			counts.put(Util.otos(row[0]), Util.otoi(row[1]));
+		}
+		Util.flushIterator(it);
+		return counts;
+	}
+
+	private static Map<String, Object> getWorkgroupNodeMap(SailPointContext context, NodeRow node, String rootId, PluginSettings settings, 
+			int memberCount) throws GeneralException {
 		Map<String, Object> map = new HashMap<>();
 		map.put(ATTR_TYPE, TYPE_WORKGROUP);
-		map.put(ATTR_COLOR_CODE, getColorCode(TYPE_WORKGROUP));
-		if (rootId != null && rootId.equals(node.getId())) {
+		map.put(ATTR_COLOR_CODE, settings.getColorCode(TYPE_WORKGROUP));
+		if (rootId != null && rootId.equals(node.id)) {
 			map.put(ATTR_PARENT, null);
 		} else {
-			map.put(ATTR_PARENT, getParentNodeId(node, node.getOwner()));
+			map.put(ATTR_PARENT, node.ownerId);
 		}
-		map.put(ATT_MANAGES_COUNT, getManagedCount(context, node.getId()));
 		// Custom attributes
-		List<String> customWorkgroupCardAttrs = PluginSettingService.getSettingWorkgroupCardAttrs();
+		List<String> customWorkgroupCardAttrs = settings.getWorkgroupCardAttrs();
 		for (String attr : Util.safeIterable(customWorkgroupCardAttrs)) {
-			if ("description".equals(attr)) {
-				map.put(attr, node.getDescription());
-			} else {
-				map.put(attr, node.getAttribute(attr));
-			}
+			map.put(attr, node.getAttribute(attr));
 		}
 		map.put(ATTR_ATTRIBUTES, customWorkgroupCardAttrs);
-		try {
-			map.put(ATTR_MEMBER_COUNT, Util.nullSafeSize(getMembers(context, node, "id")));
-			map.put("members", getMembers(context, node, "displayName"));
-		} catch (GeneralException e) {
-			logger.error("Failed to get members for workgroup: " + node.getName());
+		map.put(ATTR_MEMBER_COUNT, memberCount);
+		// Only the first members are embedded, the full list is paged by the members endpoint
+		List<String> members = new ArrayList<>();
+		int previewSize = settings.getWorkgroupMemberPreviewSize();
+		if (previewSize > 0 && memberCount > 0) {
+			try {
+				members = getMemberPreview(context, node.id, previewSize);
+			} catch (GeneralException e) {
+				logger.error("Failed to get members for workgroup: " + node.name);
+			}
 		}
+		map.put("members", members);
 		return map;
 	}
 
-	private static Map<String, Object> getIdentityNodeMap(SailPointContext context, Identity node, String rootId) throws GeneralException {
+	private static Map<String, Object> getIdentityNodeMap(NodeRow node, String rootId, PluginSettings settings, 
+			List<String> workgroupIds, List<String> assignedRoleIds, List<String> detectedRoleIds) {
 		Map<String, Object> map = new HashMap<>();
-		map.put(ATTR_TYPE, (node.getType() != null ? node.getType() : "none"));
-		map.put(ATTR_COLOR_CODE, getColorCode(node.getType()));
-		if (rootId != null && rootId.equals(node.getId())) {
+		map.put(ATTR_TYPE, (node.type != null ? node.type : "none"));
+		map.put(ATTR_COLOR_CODE, settings.getColorCode(node.type));
+		if (rootId != null && rootId.equals(node.id)) {
 			map.put(ATTR_PARENT, null);
 		} else {
-			map.put(ATTR_PARENT, getParentNodeId(node, node.getManager()));
+			map.put(ATTR_PARENT, node.managerId);
 		}
-		map.put(ATT_MANAGES_COUNT, getManagedCount(context, node.getId()));
-		map.put(ATTR_INACTIVE, node.isInactive());
+		map.put(ATTR_INACTIVE, node.inactive);
 		// Custom attributes
-		List<String> customIdentityCardAttrs = PluginSettingService.getSettingIdentityCardAttrs();
+		List<String> customIdentityCardAttrs = settings.getIdentityCardAttrs();
 		for (String attr : Util.safeIterable(customIdentityCardAttrs)) {
 			map.put(attr, node.getAttribute(attr));
 		}
 		map.put(ATTR_ATTRIBUTES, customIdentityCardAttrs);
-		map.putAll(getIconImg(node));
+		map.putAll(getIconImg(node, settings));
 		// Workgroups
-		List<Identity> workgroups = node.getWorkgroups();
-		List<String> workgroupIds = new ArrayList<>();
-		if (Util.nullSafeSize(workgroups) > 0) {
-			workgroupIds= workgroups.stream().map(Identity::getId).collect(Collectors.toList());
-		}
-		map.put(ATT_MEMBERSHIP_COUNT, Util.nullSafeSize(workgroups));
+		workgroupIds = (workgroupIds != null ? workgroupIds : new ArrayList<>());
+		map.put(ATT_MEMBERSHIP_COUNT, workgroupIds.size());
 		map.put("workgroups", workgroupIds);
 		// Assigned roles
-		List<Bundle> assignedRoles = node.getAssignedRoles();
-		List<String> assignedRoleIds = new ArrayList<>();
-		if (Util.nullSafeSize(assignedRoles) > 0) {
-			assignedRoleIds= assignedRoles.stream().map(Bundle::getId).collect(Collectors.toList());
-		}
-		map.put("assignedRoles", assignedRoleIds);
+		map.put("assignedRoles", (assignedRoleIds != null ? assignedRoleIds : new ArrayList<>()));
 		// Detected roles
-		List<Bundle> detectedRoles = node.getDetectedRoles();
-		List<String> detectedRoleIds = new ArrayList<>();
-		if (Util.nullSafeSize(detectedRoles) > 0) {
-			detectedRoleIds= detectedRoles.stream().map(Bundle::getId).collect(Collectors.toList());
-		}
-		map.put("detectedRoles", detectedRoleIds);
-		map.put("policyViolationsCount", getNumberOfPolicyViolations(context, node));
+		map.put("detectedRoles", (detectedRoleIds != null ? detectedRoleIds : new ArrayList<>()));
 		return map;
 	}
 	
-	private static String getColorCode(String type) {
-		Map<String, String> colorCodeMap = PluginSettingService.getColorCodeSettingMap();
-		if (Util.isNotNullOrEmpty(type) && colorCodeMap.containsKey(type)) {
-			return colorCodeMap.get(type);
-		} else {
-			return colorCodeMap.get(TYPE_DEFAULT);
-		}
-	}
-	
-	private static String getParentNodeId(Identity node, Identity parent) {
-		if (parent != null) {
-			return parent.getId();	
-		} else {
-			return null;
-		}
-	}
-	
-	private static Map<String, Object> getIconImg(Identity node) {
+	private static Map<String, Object> getIconImg(NodeRow node, PluginSettings settings) {
 		Map<String, Object> map = new HashMap<>();
-		String iconImgAttr = PluginSettingService.getIdentityIconImgAttirbute();
+		String iconImgAttr = settings.getIdentityIconImgAttribute();
 		if (Util.isNotNullOrEmpty(iconImgAttr)) {
 			map.put(ATTR_IDENTITY_ICON_IMG_ATTRIBUTE, iconImgAttr);
-			if (Util.isNotNullOrEmpty(node.getStringAttribute(iconImgAttr))) {
-				map.put(iconImgAttr, node.getStringAttribute(iconImgAttr));
+			String iconImg = Util.otos(node.getAttribute(iconImgAttr));
+			if (Util.isNotNullOrEmpty(iconImg)) {
+				// The image itself is served by the icon endpoint, the hash versions the icon url
+				map.put(ATTR_ICON_HASH, IconService.getIconHash(iconImg));
 			}
 		}
 		return map;
 	}
 	
-	public static List<String> getMembers(SailPointContext context, Identity workgroup, String attribute) throws GeneralException {
+	/**
+	 * Return the display names of the first members of the workgroup, sorted in the database
+	 * 
+	 * @param context SailPointContext
+	 * @param workgroupId String
+	 * @param size int
+	 * @return List<String>
+	 * @throws GeneralException
+	 */
+	private static List<String> getMemberPreview(SailPointContext context, String workgroupId, int size) throws GeneralException {
 		List<String> result = new ArrayList<>();
-		List<String> props = new ArrayList<>();
-		props.add(attribute);
-		Iterator<Object[]> it = ObjectUtil.getWorkgroupMembers(context, workgroup, props);
+		QueryOptions qo = new QueryOptions();
+		qo.add(Filter.eq("workgroups.id", workgroupId));
+		qo.addOrdering("displayName", true);
+		qo.addOrdering("name", true);
+		qo.setResultLimit(size);
+		Iterator<Object[]> it = context.search(Identity.class, qo, Arrays.asList("name", "displayName"));
 		while (it.hasNext()) {
-			String value = Util.otos(it.next()[0]);
-			result.add(value);
+			Object[] row = it.next();
+			result.add(Util.isNotNullOrEmpty(Util.otos(row[1])) ? Util.otos(row[1]) : Util.otos(row[0]));
 		}
 		Util.flushIterator(it);
-		Collections.sort(result);
 		return result;
 	}
 	
 	/**
-	 * Get Active RoleAssignments in json format  
+	 * Return one page of the workgroup members sorted by display name. With a prefix only 
+	 * the members whose name or display name starts with the prefix are returned.
+	 * 
+	 * @param context SailPointContext
+	 * @param workgroupId String
+	 * @param prefix String optional
+	 * @param offset int first row
+	 * @param limit int maximum number of rows, DEFAULT_PAGE_SIZE if not positive
+	 * @return Map<String, Object> with total, offset, limit and items (id, name, displayName)
+	 * @throws GeneralException
+	 */
+	public static Map<String, Object> getMembers(SailPointContext context, String workgroupId, String prefix, int offset, int limit) throws GeneralException {
+		Filter filter = Filter.eq("workgroups.id", workgroupId);
+		if (Util.isNotNullOrEmpty(prefix)) {
+			filter = Filter.and(filter, Filter.or(Filter.like("name", prefix, Filter.MatchMode.START), 
+					Filter.like("displayName", prefix, Filter.MatchMode.START)));
+		}
+		return getPage(context, Identity.class, filter, Arrays.asList("displayName", "name"), MEMBER_PROPERTIES, offset, limit, row -> {
+			Map<String, Object> member = new HashMap<>();
+			member.put(ATTR_ID, Util.otos(row[0]));
+			member.put(ATTR_NAME, Util.otos(row[1]));
+			member.put(ATTR_DISPLAYNAME, Util.isNotNullOrEmpty(Util.otos(row[2])) ? Util.otos(row[2]) : Util.otos(row[1]));
+			return member;
+		});
+	}
+	
+	/**
+	 * Get the active RoleAssignments as maps sorted by role name, null for workgroups
 	 * 
 	 * @param context SailPointContext
 	 * @param identity Identity
-	 * @param filterRoles List<Map<String, Object>>
-	 * @param showAll boolean
-	 * @param locale String
-	 * @return List<Map<String, Object>>
+	 * @return List<Map<String, Object>> one map per assignment, see getRoleAssignmentMap
 	 * @throws GeneralException
 	 */
 	public static List<Map<String, Object>> getActiveRoleAssignments(SailPointContext context, Identity identity) throws GeneralException {
@@ -355,83 +656,278 @@ public class IdentityService {
 		        }
 		    };
 			List<RoleAssignment> roleAssignments = identity.getActiveRoleAssignments();	
-			roleAssignmentListOfMap = JsonHelper.listOfMapsFromJson(String.class, Object.class, Util.toJson(roleAssignments));
+			roleAssignmentListOfMap = new ArrayList<>();
+			for (RoleAssignment roleAssignment : Util.safeIterable(roleAssignments)) {
+				roleAssignmentListOfMap.add(getRoleAssignmentMap(roleAssignment));
+			}
 			Collections.sort(roleAssignmentListOfMap, mapComparator);
 		} else {
 			logger.trace(identity.getName() + " is a workgroup, no role assignments available.");
 		}
 		
 		if (logger.isTraceEnabled()) {
-			logger.trace("Exit getActiveRoleAssignments, roleAssignmentsJson: " + roleAssignmentListOfMap);
+			logger.trace("Exit getActiveRoleAssignments, roleAssignments: " + roleAssignmentListOfMap);
 		}
 		return roleAssignmentListOfMap;
 	}
 	
+	/**
+	 * Project the RoleAssignment to the properties shown in the details view, 
+	 * dates are returned in milliseconds as the JSON serialization did.
+	 * 
+	 * @param roleAssignment RoleAssignment
+	 * @return Map<String, Object>
+	 */
+	private static Map<String, Object> getRoleAssignmentMap(RoleAssignment roleAssignment) {
+		Map<String, Object> map = new HashMap<>();
+		map.put("roleId", roleAssignment.getRoleId());
+		map.put("roleName", roleAssignment.getRoleName());
+		map.put("assignmentId", roleAssignment.getAssignmentId());
+		map.put("assigner", roleAssignment.getAssigner());
+		map.put("source", roleAssignment.getSource());
+		map.put("comments", roleAssignment.getComments());
+		map.put("date", getTime(roleAssignment.getDate()));
+		map.put("startDate", getTime(roleAssignment.getStartDate()));
+		map.put("endDate", getTime(roleAssignment.getEndDate()));
+		List<Map<String, Object>> targets = new ArrayList<>();
+		for (RoleTarget roleTarget : Util.safeIterable(roleAssignment.getTargets())) {
+			Map<String, Object> target = new HashMap<>();
+			target.put("applicationName", roleTarget.getApplicationName());
+			target.put("nativeIdentity", roleTarget.getNativeIdentity());
+			target.put("displayableName", roleTarget.getDisplayableName());
+			target.put("roleName", roleTarget.getRoleName());
+			targets.add(target);
+		}
+		map.put("targets", targets);
+		return map;
+	}
+	
+	private static Long getTime(Date date) {
+		return (date != null ? date.getTime() : null);
+	}
+	
+	/**
+	 * Return the details sections read from the Identity object, the attributes and the role assignments,
+	 * with one load of the identity
+	 * 
+	 * @param context SailPointContext
+	 * @param id String identity id
+	 * @return DetailService.Group with attributes and roleAssignments
+	 * @throws GeneralException
+	 */
+	public static DetailService.Group getIdentityDetails(SailPointContext context, String id) throws GeneralException {
+		Identity identity = context.getObjectById(Identity.class, id);
+		if (identity == null) {
+			throw new GeneralException("Can not retrieve identity object: " + id);
+		}
+		DetailService.Group details = new DetailService.Group();
+		details.put("attributes", getIdentityDetailAttributes(context, identity));
+		details.put("roleAssignments", getActiveRoleAssignments(context, identity));
+		return details;
+	}
+	
 	public static List<Map<String, String>> getIdentityDetailAttributes(SailPointContext context, Identity identity) throws GeneralException {
-		ObjectConfig objectConfg = context.getObjectByName(ObjectConfig.class, "Identity");
+		MetadataCache.Metadata metadata = MetadataCache.get(context, null);
 		List<Map<String, String>> result = new ArrayList<>();
 		List<String> attributes = PluginSettingService.getSettingIdentityDetailAttrs(context);
 		for (String attr : Util.safeIterable(attributes)) {
 			Map<String, String> map = new HashMap<>();
-			if (objectConfg.hasObjectAttribute(attr)) {
-				map.put("attribute", objectConfg.getDisplayName(attr));
-			} else {
-				map.put("attribute", attr);
-			}
+			String displayName = metadata.getAttributeDisplayName(attr);
+			map.put("attribute", (displayName != null ? displayName : attr));
 			map.put("value", Util.otos(identity.getAttribute(attr)));
 			result.add(map);
 		}
 		return result;
 	}
 	
-	public static List<String> getPolicyViolations(SailPointContext context, Identity node) throws GeneralException {
+	/**
+	 * Return the sorted names of the workgroups of the identity, read with a projection 
+	 * instead of loading the identity and the workgroup objects
+	 * 
+	 * @param context SailPointContext
+	 * @param id String identity id
+	 * @return List<String>
+	 * @throws GeneralException
+	 */
+	public static List<String> getWorkgroupNames(SailPointContext context, String id) throws GeneralException {
+		List<String> workgroupNames = new ArrayList<>();
+		QueryOptions qo = new QueryOptions();
+		qo.add(Filter.eq("id", id));
+		Iterator<Object[]> it = context.search(Identity.class, qo, Arrays.asList("workgroups.name"));
+		while (it.hasNext()) {
+			String name = Util.otos(it.next()[0]);
+			if (name != null) {
+				workgroupNames.add(name);
+			}
+		}
+		Util.flushIterator(it);
+		Collections.sort(workgroupNames);
+		return workgroupNames;
+	}
+	
+	/**
+	 * Return the displayable names of the active policy violations of the identity. The violations are loaded 
+	 * in batches and the session is cleared between them, only the names are kept.
+	 * 
+	 * @param context SailPointContext
+	 * @param id String identity id
+	 * @return List<String>
+	 * @throws GeneralException
+	 */
+	public static List<String> getPolicyViolations(SailPointContext context, String id) throws GeneralException {
 		List<String> result = new ArrayList<>();
-		List<PolicyViolation> pvList = ObjectUtil.getPolicyViolations(context, node);
-		result = pvList.stream().map(pv -> {
-			try {
-				return pv.getDisplayableName();
-			} catch (GeneralException e) {
-				logger.error("getPolicyViolations: " + e);
+		QueryOptions qo = new QueryOptions();
+		qo.add(Filter.eq("identity.id", id));
+		qo.add(Filter.eq("active", true));
+		qo.addOrdering("created", true);
+		List<String> ids = new ArrayList<>();
+		Iterator<Object[]> it = context.search(PolicyViolation.class, qo, Arrays.asList("id"));
+		while (it.hasNext()) {
+			ids.add(Util.otos(it.next()[0]));
+		}
+		Util.flushIterator(it);
+		SessionBatches.forEach(context, ids, SessionBatches.DEFAULT_BATCH_SIZE, batch -> {
+			QueryOptions batchOptions = new QueryOptions();
+			batchOptions.add(Filter.in("id", batch));
+			batchOptions.addOrdering("created", true);
+			for (PolicyViolation pv : context.getObjects(PolicyViolation.class, batchOptions)) {
+				try {
+					result.add(pv.getDisplayableName());
+				} catch (GeneralException e) {
+					logger.error("getPolicyViolations: " + e);
+					result.add(pv.getName());
+				}
 			}
-			return pv.getName();
-		}).collect(Collectors.toList());
+		});
 		return result;
 	}
 	
 	public static int getNumberOfPolicyViolations(SailPointContext context, Identity node) throws GeneralException {
-		return Util.nullSafeSize(ObjectUtil.getPolicyViolations(context, node));
+		return getNumberOfPolicyViolations(context, node.getId());
 	}
 	
-	public static List<String> getOwnedEntitlements(SailPointContext context, Identity node) throws GeneralException {
-		List<String> result = new ArrayList<>();
+	public static int getNumberOfPolicyViolations(SailPointContext context, String id) throws GeneralException {
 		QueryOptions qo = new QueryOptions();
-		qo.add(Filter.eq("owner.id", node.getId()));
-		qo.addOrdering("application.name", true);
-		Iterator<ManagedAttribute> it = context.search(ManagedAttribute.class, qo);
-		while (it.hasNext()) {
-			try {
-				ManagedAttribute ma = it.next();
-				String value = "[" + ma.getApplication().getName() + "]" + (ma.getName() != null ? ma.getName() : "") + " :" + ma.getDisplayableName();
-				result.add(value);
-			} catch (Exception e) {
-				logger.error("getOwnedEntitlements, exception: " + e);
+		qo.add(Filter.eq("identity.id", id));
+		qo.add(Filter.eq("active", true));
+		return context.countObjects(PolicyViolation.class, qo);
+	}
+	
+	/**
+	 * Return one page of the entitlements owned by the identity. The total is counted first, 
+	 * the page is only queried when the offset is within the total.
+	 * 
+	 * @param context SailPointContext
+	 * @param ownerId String
+	 * @param offset int first row
+	 * @param limit int maximum number of rows, DEFAULT_PAGE_SIZE if not positive
+	 * @return Map<String, Object> with total, offset, limit and items
+	 * @throws GeneralException
+	 */
+	public static Map<String, Object> getOwnedEntitlements(SailPointContext context, String ownerId, int offset, int limit) throws GeneralException {
+		return getPage(context, ManagedAttribute.class, Filter.eq("owner.id", ownerId), Arrays.asList("application.name", "value"), 
+				OWNED_ENTITLEMENT_PROPERTIES, offset, limit, row -> {
+			String value = Util.otos(row[1]);
+			String name = Util.otos(row[3]);
+			String displayableName = Util.isNotNullOrEmpty(Util.otos(row[2])) ? Util.otos(row[2]) : value;
+			return "[" + Util.otos(row[0]) + "]" + (name != null ? name : "") + " :" + displayableName;
+		});
+	}
+	
+	/**
+	 * Return one page of the roles owned by the identity, see getOwnedEntitlements
+	 * 
+	 * @param context SailPointContext
+	 * @param ownerId String
+	 * @param offset int first row
+	 * @param limit int maximum number of rows, DEFAULT_PAGE_SIZE if not positive
+	 * @return Map<String, Object> with total, offset, limit and items
+	 * @throws GeneralException
+	 */
+	public static Map<String, Object> getOwnedRoles(SailPointContext context, String ownerId, int offset, int limit) throws GeneralException {
+		return getPage(context, Bundle.class, Filter.eq("owner.id", ownerId), Arrays.asList("name"), OWNED_ROLE_PROPERTIES, offset, limit, 
+				row -> Util.isNotNullOrEmpty(Util.otos(row[1])) ? Util.otos(row[1]) : Util.otos(row[0]));
+	}
+	
+	/**
+	 * Maps one projection row to a list item
+	 */
+	private interface RowMapper<R> {
+		R map(Object[] row);
+	}
+	
+	/**
+	 * Count the matching objects, then query one page of the projection sorted in the database
+	 */
+	private static <T extends SailPointObject, R> Map<String, Object> getPage(SailPointContext context, Class<T> clazz, Filter filter, 
+			List<String> orderings, List<String> properties, int offset, int limit, RowMapper<R> mapper) throws GeneralException {
+		offset = Math.max(0, offset);
+		limit = (limit > 0 ? Math.min(limit, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE);
+		QueryOptions countOptions = new QueryOptions();
+		countOptions.add(filter);
+		int total = context.countObjects(clazz, countOptions);
+		List<R> items = new ArrayList<>();
+		if (offset < total) {
+			QueryOptions qo = new QueryOptions();
+			qo.add(filter);
+			for (String ordering : orderings) {
+				qo.addOrdering(ordering, true);
+			}
+			qo.setFirstRow(offset);
+			qo.setResultLimit(limit);
+			Iterator<Object[]> it = context.search(clazz, qo, properties);
+			while (it.hasNext()) {
+				items.add(mapper.map(it.next()));
 			}
+			Util.flushIterator(it);
 		}
-		Util.flushIterator(it);
-		return result;
+		Map<String, Object> page = new LinkedHashMap<>();
+		page.put("total", total);
+		page.put("offset", offset);
+		page.put("limit", limit);
+		page.put("items", items);
+		return page;
 	}
 	
-	public static List<String> getOwnedRoles(SailPointContext context, Identity node) throws GeneralException {
-		List<String> result = new ArrayList<>();
-		QueryOptions qo = new QueryOptions();
-		qo.add(Filter.eq("owner.id", node.getId()));
-		qo.addOrdering("name", true);
-		Iterator<Bundle> it = context.search(Bundle.class, qo);
-		while (it.hasNext()) {
-			String value = it.next().getDisplayableName();
-			result.add(value);
+	/**
+	 * Card columns of an identity or workgroup as returned by the NODE_PROPERTIES projection
+	 */
+	private static class NodeRow {
+		private final String id;
+		private final String name;
+		private final String displayName;
+		private final boolean workgroup;
+		private final String type;
+		private final boolean inactive;
+		private final String managerId;
+		private final String ownerId;
+		private final String description;
+		private final Map<String, Object> attributes;
+		
+		@SuppressWarnings("unchecked")
+		private NodeRow(Object[] row) {
+			this.id = Util.otos(row[0]);
+			this.name = Util.otos(row[1]);
+			this.displayName = Util.otos(row[2]);
+			this.workgroup = Util.otob(row[3]);
+			this.type = Util.otos(row[4]);
+			this.inactive = Util.otob(row[5]);
+			this.managerId = Util.otos(row[6]);
+			this.ownerId = Util.otos(row[7]);
+			this.description = Util.otos(row[8]);
+			this.attributes = (row[9] instanceof Map) ? (Map<String, Object>) row[9] : Collections.emptyMap();
+		}
+		
+		private Object getAttribute(String attr) {
+			if ("description".equals(attr)) {
+				return description;
+			} else if (ATTR_DISPLAYNAME.equals(attr)) {
+				return displayName;
+			} else if (ATTR_NAME.equals(attr)) {
+				return name;
+			} else {
+				return attributes.get(attr);
+			}
 		}
-		Util.flushIterator(it);
-		return result;
 	}
 }
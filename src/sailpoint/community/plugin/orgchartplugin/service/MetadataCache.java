@@ -0,0 +1,193 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.community.plugin.orgchartplugin.util.Util;
+import sailpoint.object.Configuration;
+import sailpoint.object.Filter;
+import sailpoint.object.IdentityTypeDefinition;
+import sailpoint.object.ObjectAttribute;
+import sailpoint.object.ObjectConfig;
+import sailpoint.object.QueryOptions;
+import sailpoint.object.SailPointObject;
+import sailpoint.object.UIConfig;
+import sailpoint.tools.GeneralException;
+
+/**
+ * Per-locale cache of the localized metadata of the UI: the node types, the display names of the Identity
+ * ObjectConfig attributes and the resolved IIQ message bundle.
+ *
+ * The entries carry the modification dates of the Identity ObjectConfig and the system Configuration they were
+ * built from. The dates are read with a projection query at most every VALIDATION_INTERVAL_MILLIS, a changed date
+ * rebuilds the entries on their next use. The version also contains the date of the UIConfig, whose
+ * identityViewAttributes are the default detail attributes, so it stamps the configuration of the details view. Only the rebuild loads the configuration objects.
+ */
+public class MetadataCache {
+
+	public static final Log logger = LogFactory.getLog(MetadataCache.class);
+
+	private static final long VALIDATION_INTERVAL_MILLIS = 60 * 1000L;
+	private static final String OBJECT_CONFIG_IDENTITY = "Identity";
+	private static final String SYSTEM_CONFIGURATION = "SystemConfiguration";
+	private static final String UI_CONFIG = "UIConfig";
+	// Key of the entry for requests without a locale, resolved to the default language
+	private static final String DEFAULT_LOCALE_KEY = "";
+
+	private static final ConcurrentMap<String, Metadata> entries = new ConcurrentHashMap<>();
+	private static volatile String version;
+	private static volatile long validatedAt;
+
+	/**
+	 * Localized metadata of one locale
+	 */
+	public static class Metadata {
+		private final String version;
+		private final ResourceBundle bundle;
+		private final Map<String, String> nodeTypes;
+		private final Map<String, String> attributeDisplayNames;
+
+		private Metadata(String version, ResourceBundle bundle, Map<String, String> nodeTypes, Map<String, String> attributeDisplayNames) {
+			this.version = version;
+			this.bundle = bundle;
+			this.nodeTypes = Collections.unmodifiableMap(nodeTypes);
+			this.attributeDisplayNames = Collections.unmodifiableMap(attributeDisplayNames);
+		}
+
+		public Map<String, String> getNodeTypes() {
+			return nodeTypes;
+		}
+
+		/**
+		 * Return the display name of the Identity attribute, null if the ObjectConfig does not define the attribute
+		 *
+		 * @param attribute String
+		 * @return String
+		 */
+		public String getAttributeDisplayName(String attribute) {
+			return attributeDisplayNames.get(attribute);
+		}
+
+		/**
+		 * Return the message of the key from the bundle, the value itself if it is no message key
+		 *
+		 * @param messageKey String
+		 * @return String
+		 */
+		public String getMessage(String messageKey) {
+			if (bundle == null || !Util.smellsLikeMessageKey(messageKey)) {
+				return messageKey;
+			}
+			return Util.getMessage(bundle, messageKey);
+		}
+	}
+
+	/**
+	 * Return the metadata of the locale
+	 *
+	 * @param context SailPointContext
+	 * @param locale String e.g. en_US, null for the default language of the system configuration
+	 * @return Metadata
+	 * @throws GeneralException
+	 */
+	public static Metadata get(SailPointContext context, String locale) throws GeneralException {
+		String currentVersion = validate(context);
+		String key = (Util.isNotNullOrEmpty(locale) ? locale : DEFAULT_LOCALE_KEY);
+		Metadata metadata = entries.get(key);
+		if (metadata == null || !metadata.version.equals(currentVersion)) {
+			metadata = load(context, locale, currentVersion);
+			entries.put(key, metadata);
+		}
+		return metadata;
+	}
+
+	/**
+	 * Return the version of the configuration the metadata is built from, read at most every VALIDATION_INTERVAL_MILLIS
+	 *
+	 * @param context SailPointContext
+	 * @return String
+	 * @throws GeneralException
+	 */
+	public static String getVersion(SailPointContext context) throws GeneralException {
+		return validate(context);
+	}
+
+	private static String validate(SailPointContext context) throws GeneralException {
+		long now = System.currentTimeMillis();
+		String current = version;
+		if (current != null && now - validatedAt < VALIDATION_INTERVAL_MILLIS) {
+			return current;
+		}
+		synchronized (MetadataCache.class) {
+			if (version == null || now - validatedAt >= VALIDATION_INTERVAL_MILLIS) {
+				String modified = getModified(context, ObjectConfig.class, OBJECT_CONFIG_IDENTITY) + ":"
+						+ getModified(context, Configuration.class, SYSTEM_CONFIGURATION) + ":"
+						+ getModified(context, UIConfig.class, UI_CONFIG);
+				if (version != null && !version.equals(modified) && logger.isDebugEnabled()) {
+					logger.debug("Configuration changed, reloading metadata");
+				}
+				version = modified;
+				validatedAt = now;
+			}
+			return version;
+		}
+	}
+
+	/**
+	 * Return the last modification (or creation) time of the object, read without loading the object
+	 */
+	private static <T extends SailPointObject> long getModified(SailPointContext context, Class<T> clazz, String name) throws GeneralException {
+		QueryOptions qo = new QueryOptions();
+		qo.add(Filter.eq("name", name));
+		Iterator<Object[]> it = context.search(clazz, qo, Arrays.asList("created", "modified"));
+		long modified = 0;
+		while (it.hasNext()) {
+			for (Object value : it.next()) {
+				if (value instanceof Date) {
+					modified = Math.max(modified, ((Date) value).getTime());
+				}
+			}
+		}
+		Util.flushIterator(it);
+		return modified;
+	}
+
+	private static Metadata load(SailPointContext context, String locale, String version) throws GeneralException {
+		String language = locale;
+		if (Util.isNullOrEmpty(language)) {
+			Configuration configuration = context.getConfiguration();
+			language = (configuration != null ? configuration.getString(Configuration.DEFAULT_LANGUAGE) : null);
+		}
+		ResourceBundle bundle = (Util.isNotNullOrEmpty(language) ? Util.getIIQMessages(Util.getLocaleObject(language)) : null);
+		Map<String, String> nodeTypes = new HashMap<>();
+		nodeTypes.put("workgroup", "Workgroup");
+		nodeTypes.put("none", "None");
+		Map<String, String> attributeDisplayNames = new HashMap<>();
+		Metadata metadata = new Metadata(version, bundle, nodeTypes, attributeDisplayNames);
+		ObjectConfig objConfig = context.getObjectByName(ObjectConfig.class, OBJECT_CONFIG_IDENTITY);
+		if (objConfig != null) {
+			for (IdentityTypeDefinition idTypeDef : Util.safeIterable(objConfig.getIdentityTypesList())) {
+				nodeTypes.put(idTypeDef.getName(), metadata.getMessage(idTypeDef.getDisplayableName()));
+			}
+			for (ObjectAttribute attribute : Util.safeIterable(objConfig.getObjectAttributes())) {
+				attributeDisplayNames.put(attribute.getName(), metadata.getMessage(objConfig.getDisplayName(attribute.getName())));
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Loaded metadata of locale " + language + ", node types: " + nodeTypes.size() + ", attributes: "
+					+ attributeDisplayNames.size());
+		}
+		return metadata;
+	}
+}
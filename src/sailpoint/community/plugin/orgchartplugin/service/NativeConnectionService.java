@@ -0,0 +1,163 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.community.plugin.orgchartplugin.util.Util;
+import sailpoint.object.Bundle;
+import sailpoint.object.Filter;
+import sailpoint.object.Identity;
+import sailpoint.object.QueryOptions;
+import sailpoint.object.SailPointObject;
+import sailpoint.tools.GeneralException;
+
+/**
+ * Built-in alternative to the Connection Rule, selected with the connectionEngine setting.
+ *
+ * Connects the visible identities which share a workgroup or a role (assigned or detected). The memberships
+ * are indexed into one BitSet over the visible nodes per workgroup and role. Groups with fewer than two
+ * visible members are dropped, as are groups with more visible members than connectionMaxGroupSize, since
+ * they would draw a full mesh of lines. The pairs of the remaining groups are collected in parallel.
+ */
+public class NativeConnectionService {
+
+	public static final Log logger = LogFactory.getLog(NativeConnectionService.class);
+
+	public static final String ENGINE_RULE = "rule";
+	public static final String ENGINE_NATIVE = "native";
+
+	private static final int DEFAULT_MAX_GROUP_SIZE = 10;
+	private static final String GROUP_WORKGROUP = "workgroup";
+	private static final String GROUP_ROLE = "role";
+
+	/**
+	 * Visible members of one workgroup or role
+	 */
+	private static class Group {
+		private final String type;
+		private final String id;
+		private final BitSet members = new BitSet();
+		private String name;
+
+		private Group(String type, String id) {
+			this.type = type;
+			this.id = id;
+		}
+
+		private String getLabel() {
+			return (GROUP_WORKGROUP.equals(type) ? "Workgroup: " : "Role: ") + (name != null ? name : id);
+		}
+	}
+
+	/**
+	 * Return the connections between the nodes sharing a workgroup or role, in the format of the Connection Rule
+	 *
+	 * @param context SailPointContext
+	 * @param allNodeIds List<String>
+	 * @return List<Map<String, Object>> with from, to and label
+	 * @throws GeneralException
+	 */
+	public static List<Map<String, Object>> getConnections(SailPointContext context, List<String> allNodeIds) throws GeneralException {
+		long start = System.currentTimeMillis();
+		List<String> nodeIds = new ArrayList<>(new LinkedHashSet<>(allNodeIds));
+		int maxGroupSize = getMaxGroupSize();
+		List<Group> groups = getGroups(context, nodeIds).stream()
+				.filter(group -> group.members.cardinality() >= 2 && group.members.cardinality() <= maxGroupSize)
+				.collect(Collectors.toList());
+		setNames(context, Identity.class, groups, GROUP_WORKGROUP);
+		setNames(context, Bundle.class, groups, GROUP_ROLE);
+		// Pair index (from * n + to) -> labels of the shared groups
+		long n = nodeIds.size();
+		ConcurrentMap<Long, List<String>> pairs = new ConcurrentHashMap<>();
+		groups.parallelStream().forEach(group -> {
+			String label = group.getLabel();
+			for (int from = group.members.nextSetBit(0); from >= 0; from = group.members.nextSetBit(from + 1)) {
+				for (int to = group.members.nextSetBit(from + 1); to >= 0; to = group.members.nextSetBit(to + 1)) {
+					pairs.compute(from * n + to, (k, labels) -> {
+						List<String> result = (labels != null ? labels : new ArrayList<>());
+						result.add(label);
+						return result;
+					});
+				}
+			}
+		});
+		List<Map<String, Object>> connections = new ArrayList<>(pairs.size());
+		for (Map.Entry<Long, List<String>> pair : pairs.entrySet()) {
+			List<String> labels = pair.getValue();
+			labels.sort(null);
+			Map<String, Object> connection = new HashMap<>();
+			connection.put("from", nodeIds.get((int) (pair.getKey() / n)));
+			connection.put("to", nodeIds.get((int) (pair.getKey() % n)));
+			connection.put("label", String.join(", ", labels));
+			connections.add(connection);
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Calculated " + connections.size() + " connections of " + nodeIds.size() + " nodes over " + groups.size()
+					+ " groups in " + (System.currentTimeMillis() - start) + "ms");
+		}
+		return connections;
+	}
+
+	/**
+	 * Index the workgroup and role memberships of the nodes into one BitSet per group
+	 */
+	private static List<Group> getGroups(SailPointContext context, List<String> nodeIds) throws GeneralException {
+		Map<String, Integer> positions = new HashMap<>();
+		for (int i = 0; i < nodeIds.size(); i++) {
+			positions.put(nodeIds.get(i), i);
+		}
+		Map<String, Group> groups = new HashMap<>();
+		for (List<String> chunk : Util.partition(nodeIds, IdentityService.QUERY_CHUNK_SIZE)) {
+			addMembers(groups, positions, GROUP_WORKGROUP, IdentityService.getRelationIds(context, chunk, "workgroups.id"));
+			addMembers(groups, positions, GROUP_ROLE, IdentityService.getRelationIds(context, chunk, "assignedRoles.id"));
+			addMembers(groups, positions, GROUP_ROLE, IdentityService.getRelationIds(context, chunk, "bundles.id"));
+		}
+		return new ArrayList<>(groups.values());
+	}
+
+	private static void addMembers(Map<String, Group> groups, Map<String, Integer> positions, String type, Map<String, List<String>> relationIds) {
+		for (Map.Entry<String, List<String>> entry : relationIds.entrySet()) {
+			int position = positions.get(entry.getKey());
+			for (String groupId : entry.getValue()) {
+				groups.computeIfAbsent(type + ":" + groupId, k -> new Group(type, groupId)).members.set(position);
+			}
+		}
+	}
+
+	private static <T extends SailPointObject> void setNames(SailPointContext context, Class<T> clazz, List<Group> groups, String type) throws GeneralException {
+		Map<String, Group> byId = new HashMap<>();
+		for (Group group : groups) {
+			if (type.equals(group.type)) {
+				byId.put(group.id, group);
+			}
+		}
+		for (List<String> chunk : Util.partition(new ArrayList<>(byId.keySet()), IdentityService.QUERY_CHUNK_SIZE)) {
+			QueryOptions qo = new QueryOptions();
+			qo.add(Filter.in("id", chunk));
+			Iterator<Object[]> it = context.search(clazz, qo, Arrays.asList("id", "name", "displayName"));
+			while (it.hasNext()) {
+				Object[] row = it.next();
+				byId.get(Util.otos(row[0])).name = (Util.isNotNullOrEmpty(Util.otos(row[2])) ? Util.otos(row[2]) : Util.otos(row[1]));
+			}
+			Util.flushIterator(it);
+		}
+	}
+
+	private static int getMaxGroupSize() {
+		int size = PluginSettingService.getSettingConnectionMaxGroupSize();
+		return (size > 0 ? size : DEFAULT_MAX_GROUP_SIZE);
+	}
+}
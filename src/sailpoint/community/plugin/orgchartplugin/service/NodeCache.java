@@ -0,0 +1,371 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.tools.GeneralException;
+
+/**
+ * Plugin wide cache of built node lists, e.g. the response of /orgchart/{id} and /orgchart/manages/{id}.
+ *
+ * The entries are evicted in LRU order once the estimated size exceeds the configured memory cap. The key contains
+ * the version of the HierarchyIndex, so a changed identity makes the entries built before unreachable. Entries
+ * expire at the end of the TTL window they were built in, the window which is also part of the ETag of VersionService,
+ * so an ETag always stamps nodes built with the same index version, settings and window.
+ * The cache is cleared when the plugin settings which influence the node maps change.
+ *
+ * A full cache admits a new entry only if it was requested more often than the entries it would evict (TinyLFU):
+ * the request frequencies of all node lists, cached or not, are counted in a small count-min sketch whose counters
+ * are halved periodically, so a scan over rarely requested ids does not flush the popular trees. Entries built by
+ * refresh, e.g. by the cache warming, are always admitted. The cached lists and node maps are unmodifiable.
+ */
+public class NodeCache {
+
+	public static final Log logger = LogFactory.getLog(NodeCache.class);
+
+	public static final String TYPE_TREE = "tree";
+	public static final String TYPE_MANAGES = "manages";
+	public static final String TYPE_CHILDREN = "children";
+
+	private static final int DEFAULT_MAX_MEGABYTES = 64;
+	// 16 four bit counters per long, about 256k counters in 128KB
+	private static final int SKETCH_LONGS = 16384;
+
+	private static final NodeCache instance = new NodeCache();
+
+	// Access ordered, the eldest entry is the least recently used one
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long estimatedBytes = 0;
+	private String settingsFingerprint;
+	private final FrequencySketch sketch = new FrequencySketch(SKETCH_LONGS);
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+	private final LongAdder refreshes = new LongAdder();
+	private final LongAdder rejections = new LongAdder();
+
+	public interface Loader {
+		List<Map<String, Object>> load() throws GeneralException;
+	}
+
+	private static class Entry {
+		private final List<Map<String, Object>> nodes;
+		private final int frequencyKey;
+		private final long bytes;
+		private final long expiresAt;
+
+		private Entry(List<Map<String, Object>> nodes, int frequencyKey, long bytes, long expiresAt) {
+			this.nodes = nodes;
+			this.frequencyKey = frequencyKey;
+			this.bytes = bytes;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	/**
+	 * Count-min sketch of 4 bit counters with 4 hash functions. Once the number of recorded requests reaches
+	 * ten times the number of counters per row, all counters are halved, so the frequencies follow the current usage.
+	 * Not thread safe, guarded by the NodeCache monitor.
+	 */
+	private static class FrequencySketch {
+		private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final long[] table;
+		private final int counterMask;
+		private final int sampleSize;
+		private int size = 0;
+
+		private FrequencySketch(int longs) {
+			this.table = new long[longs];
+			this.counterMask = longs * 16 - 1;
+			this.sampleSize = longs * 10;
+		}
+
+		private void increment(int key) {
+			for (int i = 0; i < SEEDS.length; i++) {
+				int counter = indexOf(key, i);
+				int shift = (counter & 15) << 2;
+				if (((table[counter >>> 4] >>> shift) & 15L) < 15L) {
+					table[counter >>> 4] += 1L << shift;
+				}
+			}
+			if (++size >= sampleSize) {
+				for (int i = 0; i < table.length; i++) {
+					table[i] = (table[i] >>> 1) & RESET_MASK;
+				}
+				size /= 2;
+			}
+		}
+
+		private int frequency(int key) {
+			int frequency = 15;
+			for (int i = 0; i < SEEDS.length; i++) {
+				int counter = indexOf(key, i);
+				frequency = Math.min(frequency, (int) ((table[counter >>> 4] >>> ((counter & 15) << 2)) & 15L));
+			}
+			return frequency;
+		}
+
+		private int indexOf(int key, int i) {
+			long hash = (key + SEEDS[i]) * SEEDS[i];
+			hash += hash >>> 32;
+			return (int) hash & counterMask;
+		}
+	}
+
+	public static NodeCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Return the cache id of the tree of /orgchart/{id}
+	 *
+	 * @param id String
+	 * @param depth int
+	 * @param maxChildren int
+	 * @return String
+	 */
+	public static String getTreeId(String id, int depth, int maxChildren) {
+		return id + ":" + depth + ":" + maxChildren;
+	}
+
+	/**
+	 * Return the cache id of the reports of /orgchart/manages/{id}
+	 *
+	 * @param id String
+	 * @param maxChildren int
+	 * @return String
+	 */
+	public static String getManagesId(String id, int maxChildren) {
+		return id + ":" + maxChildren;
+	}
+
+	/**
+	 * Return the cached node list of the given type and identity, or build it with the loader and cache it
+	 * if the admission allows. The returned list and its node maps are shared between requests and unmodifiable.
+	 *
+	 * @param type String TYPE_TREE, TYPE_MANAGES or TYPE_CHILDREN
+	 * @param id String identity id, with the request parameters the nodes depend on
+	 * @param settings PluginSettings the loader builds the nodes with
+	 * @param loader Loader
+	 * @return List<Map<String, Object>>
+	 * @throws GeneralException
+	 */
+	public List<Map<String, Object>> get(String type, String id, PluginSettings settings, Loader loader) throws GeneralException {
+		int ttlSeconds = PluginSettingService.getSettingNodeCacheTtlSeconds();
+		if (ttlSeconds <= 0) { // Disabled
+			return loader.load();
+		}
+		String fingerprint = settings.getFingerprint();
+		String key = getKey(type, id, fingerprint);
+		int frequencyKey = getFrequencyKey(type, id);
+		synchronized (this) {
+			checkSettings(fingerprint);
+			sketch.increment(frequencyKey);
+			Entry entry = entries.get(key);
+			if (entry != null) {
+				if (entry.expiresAt > System.currentTimeMillis()) {
+					hits.increment();
+					return entry.nodes;
+				}
+				remove(key);
+				expirations.increment();
+			}
+		}
+		misses.increment();
+		// Build outside of the lock, concurrent misses for the same key build twice
+		List<Map<String, Object>> nodes = freeze(loader.load());
+		put(key, frequencyKey, nodes, ttlSeconds, false);
+		return nodes;
+	}
+
+	/**
+	 * Build the node list with the loader and replace the cached one, e.g. to warm the cache ahead of the requests.
+	 * Does nothing if the cache is disabled.
+	 *
+	 * @param type String TYPE_TREE, TYPE_MANAGES or TYPE_CHILDREN
+	 * @param id String identity id, with the request parameters the nodes depend on
+	 * @param settings PluginSettings the loader builds the nodes with
+	 * @param loader Loader
+	 * @return boolean true if the nodes were cached
+	 * @throws GeneralException
+	 */
+	public boolean refresh(String type, String id, PluginSettings settings, Loader loader) throws GeneralException {
+		int ttlSeconds = PluginSettingService.getSettingNodeCacheTtlSeconds();
+		if (ttlSeconds <= 0) {
+			return false;
+		}
+		String fingerprint = settings.getFingerprint();
+		synchronized (this) {
+			checkSettings(fingerprint);
+		}
+		put(getKey(type, id, fingerprint), getFrequencyKey(type, id), freeze(loader.load()), ttlSeconds, true);
+		refreshes.increment();
+		return true;
+	}
+
+	private static String getKey(String type, String id, String fingerprint) {
+		return type + ":" + id + ":" + fingerprint + ":" + HierarchyIndex.getCurrentVersion();
+	}
+
+	/**
+	 * Frequency key of the node list, independent of the settings and index version, so the frequency of a
+	 * popular tree survives identity changes
+	 */
+	private static int getFrequencyKey(String type, String id) {
+		return (type + ":" + id).hashCode();
+	}
+
+	private synchronized void put(String key, int frequencyKey, List<Map<String, Object>> nodes, int ttlSeconds, boolean force) {
+		long bytes = estimateSize(nodes);
+		long maxBytes = getMaxBytes();
+		if (bytes > maxBytes) {
+			return;
+		}
+		remove(key);
+		// Victims in LRU order until the entry fits, expired entries are evicted regardless of their frequency
+		long now = System.currentTimeMillis();
+		int frequency = sketch.frequency(frequencyKey);
+		List<String> victims = new ArrayList<>();
+		long freed = 0;
+		Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+		while (estimatedBytes - freed + bytes > maxBytes && it.hasNext()) {
+			Map.Entry<String, Entry> victim = it.next();
+			if (!force && victim.getValue().expiresAt > now && sketch.frequency(victim.getValue().frequencyKey) >= frequency) {
+				rejections.increment();
+				return;
+			}
+			victims.add(victim.getKey());
+			freed += victim.getValue().bytes;
+		}
+		for (String victim : victims) {
+			remove(victim);
+			evictions.increment();
+		}
+		// End of the current TTL window
+		long ttlMillis = ttlSeconds * 1000L;
+		long expiresAt = (now / ttlMillis + 1) * ttlMillis;
+		entries.put(key, new Entry(nodes, frequencyKey, bytes, expiresAt));
+		estimatedBytes += bytes;
+	}
+
+	/**
+	 * Return an unmodifiable deep copy of the node list, nested maps and lists included
+	 */
+	@SuppressWarnings("unchecked")
+	private static List<Map<String, Object>> freeze(List<Map<String, Object>> nodes) {
+		return (List<Map<String, Object>>) freezeValue(nodes);
+	}
+
+	private static Object freezeValue(Object value) {
+		if (value instanceof Map) {
+			Map<Object, Object> copy = new LinkedHashMap<>();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				copy.put(entry.getKey(), freezeValue(entry.getValue()));
+			}
+			return Collections.unmodifiableMap(copy);
+		} else if (value instanceof Collection) {
+			List<Object> copy = new ArrayList<>(((Collection<?>) value).size());
+			for (Object element : (Collection<?>) value) {
+				copy.add(freezeValue(element));
+			}
+			return Collections.unmodifiableList(copy);
+		}
+		return value;
+	}
+
+	/**
+	 * Clear the cache if the node maps were built with other settings
+	 */
+	private void checkSettings(String fingerprint) {
+		if (!fingerprint.equals(settingsFingerprint)) {
+			if (settingsFingerprint != null) {
+				logger.debug("Plugin settings changed, invalidate node cache");
+				clear();
+			}
+			settingsFingerprint = fingerprint;
+		}
+	}
+
+	private void remove(String key) {
+		Entry entry = entries.remove(key);
+		if (entry != null) {
+			estimatedBytes -= entry.bytes;
+		}
+	}
+
+	private void clear() {
+		entries.clear();
+		estimatedBytes = 0;
+		invalidations.increment();
+	}
+
+	public synchronized void invalidate() {
+		clear();
+	}
+
+	private static long getMaxBytes() {
+		int megabytes = PluginSettingService.getSettingNodeCacheMaxMegabytes();
+		return (megabytes > 0 ? megabytes : DEFAULT_MAX_MEGABYTES) * 1024L * 1024L;
+	}
+
+	public Map<String, Object> getStatistics() {
+		Map<String, Object> stats = new HashMap<>();
+		synchronized (this) {
+			stats.put("entries", entries.size());
+			stats.put("estimatedBytes", estimatedBytes);
+		}
+		stats.put("maxBytes", getMaxBytes());
+		stats.put("ttlSeconds", PluginSettingService.getSettingNodeCacheTtlSeconds());
+		stats.put("hits", hits.sum());
+		stats.put("misses", misses.sum());
+		stats.put("evictions", evictions.sum());
+		stats.put("expirations", expirations.sum());
+		stats.put("invalidations", invalidations.sum());
+		stats.put("refreshes", refreshes.sum());
+		stats.put("rejections", rejections.sum());
+		return stats;
+	}
+
+	/**
+	 * Rough estimate of the heap used by the node maps (compact strings, boxed values and hash map entries)
+	 *
+	 * @param value Object
+	 * @return long bytes
+	 */
+	private static long estimateSize(Object value) {
+		if (value == null) {
+			return 0;
+		} else if (value instanceof String) {
+			return 40 + ((String) value).length();
+		} else if (value instanceof Map) {
+			long size = 48;
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				size += 32 + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+			}
+			return size;
+		} else if (value instanceof Collection) {
+			long size = 40;
+			for (Object element : (Collection<?>) value) {
+				size += 8 + estimateSize(element);
+			}
+			return size;
+		} else {
+			return 16;
+		}
+	}
+}
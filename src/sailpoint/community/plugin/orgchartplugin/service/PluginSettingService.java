@@ -3,18 +3,16 @@ package sailpoint.community.plugin.orgchartplugin.service;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import sailpoint.api.SailPointContext;
 import sailpoint.community.plugin.orgchartplugin.util.Util;
-import sailpoint.object.IdentityTypeDefinition;
-import sailpoint.object.ObjectConfig;
 import sailpoint.object.UIConfig;
 import sailpoint.plugin.PluginBaseHelper;
 import sailpoint.tools.GeneralException;
-import sailpoint.tools.JsonHelper;
 
 public class PluginSettingService {
 
@@ -26,28 +24,103 @@ public class PluginSettingService {
 	private static final String SETTING_IDENTITY_ICON_IMG_ATTR = "identityIconImgAttribute";
 	private static final String SETTING_COLOR_CODE = "colorCodeSetting";
 	private static final String SETTING_CONNECTION_RULE = "connectionRule";
+	private static final String SETTING_HIERARCHY_INDEX_REFRESH_SECONDS = "hierarchyIndexRefreshSeconds";
+	private static final String SETTING_NODE_CACHE_TTL_SECONDS = "nodeCacheTtlSeconds";
+	private static final String SETTING_NODE_CACHE_MAX_MEGABYTES = "nodeCacheMaxMegabytes";
+	private static final String SETTING_DETAILS_SECTION_TIMEOUT_SECONDS = "detailsSectionTimeoutSeconds";
+	private static final String SETTING_WORKGROUP_MEMBER_PREVIEW_SIZE = "workgroupMemberPreviewSize";
+	private static final String SETTING_CONNECTION_ENGINE = "connectionEngine";
+	private static final String SETTING_CONNECTION_MAX_GROUP_SIZE = "connectionMaxGroupSize";
+	private static final String SETTING_SLOW_REQUEST_THRESHOLD_MILLIS = "slowRequestThresholdMillis";
+	private static final String SETTING_COUNT_DATABASE_CALLS = "countDatabaseCalls";
 	
 	public static final Log logger = LogFactory.getLog(PluginSettingService.class);
 	
+	private static final AtomicReference<PluginSettings> settings = new AtomicReference<>();
+	
+	/**
+	 * Source of the raw setting values
+	 */
+	public interface SettingSource {
+		String getSettingString(String name);
+		int getSettingInt(String name);
+	}
+	
+	private static final SettingSource PLUGIN_SETTING_SOURCE = new SettingSource() {
+		@Override
+		public String getSettingString(String name) {
+			return PluginBaseHelper.getSettingString(PLUGIN_NAME, name);
+		}
+		
+		@Override
+		public int getSettingInt(String name) {
+			return PluginBaseHelper.getSettingInt(PLUGIN_NAME, name);
+		}
+	};
+	
+	private static volatile SettingSource settingSource = PLUGIN_SETTING_SOURCE;
+	
+	/**
+	 * Replace the plugin settings, e.g. by the benchmarks which run outside of IdentityIQ. 
+	 * Null restores the settings of the installed plugin.
+	 * 
+	 * @param source SettingSource
+	 */
+	public static void setSettingSource(SettingSource source) {
+		settingSource = (source != null ? source : PLUGIN_SETTING_SOURCE);
+	}
+	
 	public static String getPluginName() {
 		return PLUGIN_NAME;
 	}
 	
+	/**
+	 * Return the snapshot of the parsed node settings. The raw values are compared on each call, 
+	 * a new snapshot is only parsed and swapped in when a setting was changed.
+	 * 
+	 * @return PluginSettings
+	 */
+	public static PluginSettings getSettings() {
+		int levels = settingSource.getSettingInt(SETTING_MANAGER_LEVELS);
+		String identityCardAttrs = settingSource.getSettingString(SETTING_IDENTITY_CARD_ATTRS);
+		String workgroupCardAttrs = settingSource.getSettingString(SETTING_WORKGOUP_CARD_ATTRS);
+		String iconImgAttr = settingSource.getSettingString(SETTING_IDENTITY_ICON_IMG_ATTR);
+		String colorCodeSetting = settingSource.getSettingString(SETTING_COLOR_CODE);
+		int memberPreviewSize = settingSource.getSettingInt(SETTING_WORKGROUP_MEMBER_PREVIEW_SIZE);
+		String rawSettings = PluginSettings.toRawSettings(levels, identityCardAttrs, workgroupCardAttrs, iconImgAttr, colorCodeSetting, memberPreviewSize);
+		PluginSettings current = settings.get();
+		while (current == null || !current.getRawSettings().equals(rawSettings)) {
+			long version = (current != null ? current.getVersion() + 1 : 1);
+			PluginSettings parsed = new PluginSettings(version, levels, identityCardAttrs, workgroupCardAttrs, iconImgAttr, colorCodeSetting,
+					memberPreviewSize);
+			if (settings.compareAndSet(current, parsed)) {
+				logger.debug("Plugin settings changed, version: " + version);
+				return parsed;
+			}
+			current = settings.get();
+		}
+		return current;
+	}
+	
 	public static int getSettingManagerLevels() {
-		return PluginBaseHelper.getSettingInt(PLUGIN_NAME, SETTING_MANAGER_LEVELS);
+		return getSettings().getManagerLevels();
 	}
 	
 	public static List<String> getSettingIdentityCardAttrs() {
-		String identityCardAttributesStr = PluginBaseHelper.getSettingString(PLUGIN_NAME, SETTING_IDENTITY_CARD_ATTRS);
-		List<String> identityCardAttributesList = Util.csvToList(identityCardAttributesStr);
-		if (Util.nullSafeSize(identityCardAttributesList) > 3) {
-			identityCardAttributesList = identityCardAttributesList.subList(0, 3);
-		}
-		return identityCardAttributesList;
+		return getSettings().getIdentityCardAttrs();
+	}
+	
+	/**
+	 * Return the raw identityDetailAttributes setting, empty if the identityViewAttributes of the UIConfig are used
+	 * 
+	 * @return String
+	 */
+	public static String getSettingIdentityDetailAttrsValue() {
+		return Util.otos(settingSource.getSettingString(SETTING_IDENTITY_DETAIL_ATTRS));
 	}
 	
 	public static List<String> getSettingIdentityDetailAttrs(SailPointContext context) throws GeneralException {
-		String identityDetailAttributesStr = PluginBaseHelper.getSettingString(PLUGIN_NAME, SETTING_IDENTITY_DETAIL_ATTRS);
+		String identityDetailAttributesStr = settingSource.getSettingString(SETTING_IDENTITY_DETAIL_ATTRS);
 		if (Util.isNullOrEmpty(identityDetailAttributesStr)) {
 			UIConfig uiConfig = context.getObjectByName(UIConfig.class, "UIConfig");
 			identityDetailAttributesStr = uiConfig.get("identityViewAttributes");
@@ -56,59 +129,66 @@ public class PluginSettingService {
 	}
 	
 	public static List<String> getSettingWorkgroupCardAttrs() {
-		String identityCardAttributesStr = PluginBaseHelper.getSettingString(PLUGIN_NAME, SETTING_WORKGOUP_CARD_ATTRS);
-		List<String> workgroupCardAttributesList = Util.csvToList(identityCardAttributesStr);
-		if (Util.nullSafeSize(workgroupCardAttributesList) > 3) {
-			workgroupCardAttributesList = workgroupCardAttributesList.subList(0, 3);
-		}
-		return workgroupCardAttributesList;
+		return getSettings().getWorkgroupCardAttrs();
 	}
 	
 	public static String getIdentityIconImgAttirbute() {
-		return PluginBaseHelper.getSettingString(PLUGIN_NAME, SETTING_IDENTITY_ICON_IMG_ATTR);
+		return getSettings().getIdentityIconImgAttribute();
 	}
 
 	public static Map<String, String> getColorCodeSettingMap() {
-		Map<String, String> colorCodeMap = new HashMap<>();
-		colorCodeMap.put("default", "#3AB6E3");
-		String colorCodeSetting = PluginBaseHelper.getSettingString(PLUGIN_NAME, SETTING_COLOR_CODE);
-		if (Util.isNotNullOrEmpty(colorCodeSetting)) {
-			try {
-				colorCodeMap.putAll(JsonHelper.mapFromJson(String.class, String.class, colorCodeSetting));
-			} catch (GeneralException e) {
-				e.printStackTrace();
-			}
-		}
-		if (logger.isTraceEnabled()) {
-			logger.trace("colorCodeMap: " + colorCodeMap);
-		}
-		return colorCodeMap;
+		return getSettings().getColorCodes();
 	}
 
 	public static String getSettingConnectionRule() {
-		return PluginBaseHelper.getSettingString(PLUGIN_NAME, SETTING_CONNECTION_RULE);
+		return settingSource.getSettingString(SETTING_CONNECTION_RULE);
 	}
 	
+	public static String getSettingConnectionEngine() {
+		return settingSource.getSettingString(SETTING_CONNECTION_ENGINE);
+	}
+	
+	public static int getSettingConnectionMaxGroupSize() {
+		return settingSource.getSettingInt(SETTING_CONNECTION_MAX_GROUP_SIZE);
+	}
+	
+	public static int getSettingHierarchyIndexRefreshSeconds() {
+		return settingSource.getSettingInt(SETTING_HIERARCHY_INDEX_REFRESH_SECONDS);
+	}
+	
+	public static int getSettingNodeCacheTtlSeconds() {
+		return settingSource.getSettingInt(SETTING_NODE_CACHE_TTL_SECONDS);
+	}
+	
+	public static int getSettingNodeCacheMaxMegabytes() {
+		return settingSource.getSettingInt(SETTING_NODE_CACHE_MAX_MEGABYTES);
+	}
+	
+	public static int getSettingDetailsSectionTimeoutSeconds() {
+		return settingSource.getSettingInt(SETTING_DETAILS_SECTION_TIMEOUT_SECONDS);
+	}
+	
+	public static int getSettingSlowRequestThresholdMillis() {
+		return settingSource.getSettingInt(SETTING_SLOW_REQUEST_THRESHOLD_MILLIS);
+	}
+	
+	public static boolean getSettingCountDatabaseCalls() {
+		return Util.otob(settingSource.getSettingString(SETTING_COUNT_DATABASE_CALLS));
+	}
+	
+	/**
+	 * Return the node types with their localized display names from the metadata cache
+	 * 
+	 * @param context SailPointContext
+	 * @param locale String
+	 * @return Map<String, String>
+	 * @throws GeneralException
+	 */
 	public static Map<String, String> getNodeTypes(SailPointContext context, String locale) throws GeneralException {
-		Map<String, String> nodeTypes = new HashMap<>();
-		nodeTypes.put("workgroup", "Workgroup");
-		nodeTypes.put("none", "None");
-		nodeTypes.putAll(getIdentityTypes(context, locale));
+		Map<String, String> nodeTypes = new HashMap<>(MetadataCache.get(context, locale).getNodeTypes());
 		if (logger.isTraceEnabled()) {
 			logger.trace("nodeTypes: " + nodeTypes);
 		}
 		return nodeTypes;
 	}
-	
-	private static Map<String, String> getIdentityTypes(SailPointContext context, String locale) throws GeneralException {
-		Map<String, String> identityTypes = new HashMap<>();
-		ObjectConfig objConfig = context.getObjectByName(ObjectConfig.class, "Identity");
-		if (objConfig != null) {
-			List<IdentityTypeDefinition> idTypeDefs = objConfig.getIdentityTypesList();
-			for (IdentityTypeDefinition idTypeDef : Util.safeIterable(idTypeDefs)) {
-				identityTypes.put(idTypeDef.getName(), Util.getLocalizedIIQMessage(context, idTypeDef.getDisplayableName(), locale));
-			}
-		}
-		return identityTypes;
-	}
 }
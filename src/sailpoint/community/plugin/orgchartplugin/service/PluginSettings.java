@@ -0,0 +1,157 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.community.plugin.orgchartplugin.util.Util;
+import sailpoint.tools.GeneralException;
+import sailpoint.tools.JsonHelper;
+
+/**
+ * Immutable snapshot of the parsed plugin settings used to build the node maps.
+ *
+ * A snapshot is created by PluginSettingService when the raw setting values change and is passed
+ * once per request to IdentityService, so the settings are not read and parsed again for every node.
+ */
+public class PluginSettings {
+
+	public static final Log logger = LogFactory.getLog(PluginSettings.class);
+
+	private static final String TYPE_DEFAULT = "default";
+	private static final String DEFAULT_COLOR_CODE = "#3AB6E3";
+	private static final int MAX_CARD_ATTRIBUTES = 3;
+
+	private final long version;
+	private final String rawSettings;
+	private final String fingerprint;
+	private final int managerLevels;
+	private final List<String> identityCardAttrs;
+	private final List<String> workgroupCardAttrs;
+	private final String identityIconImgAttribute;
+	private final Map<String, String> colorCodes;
+	private final int workgroupMemberPreviewSize;
+
+	/**
+	 * Parse the raw setting values
+	 *
+	 * @param version long incremented by PluginSettingService for every new snapshot
+	 * @param managerLevels int
+	 * @param identityCardAttrs String in CSV format
+	 * @param workgroupCardAttrs String in CSV format
+	 * @param identityIconImgAttribute String
+	 * @param colorCodeSetting String in JSON format
+	 * @param workgroupMemberPreviewSize int
+	 */
+	public PluginSettings(long version, int managerLevels, String identityCardAttrs, String workgroupCardAttrs,
+			String identityIconImgAttribute, String colorCodeSetting, int workgroupMemberPreviewSize) {
+		this.version = version;
+		this.rawSettings = toRawSettings(managerLevels, identityCardAttrs, workgroupCardAttrs, identityIconImgAttribute, colorCodeSetting,
+				workgroupMemberPreviewSize);
+		this.fingerprint = Integer.toHexString(rawSettings.hashCode());
+		this.managerLevels = managerLevels;
+		this.identityCardAttrs = parseCardAttrs(identityCardAttrs);
+		this.workgroupCardAttrs = parseCardAttrs(workgroupCardAttrs);
+		this.identityIconImgAttribute = identityIconImgAttribute;
+		this.colorCodes = parseColorCodes(colorCodeSetting);
+		this.workgroupMemberPreviewSize = Math.max(0, workgroupMemberPreviewSize);
+	}
+
+	static String toRawSettings(int managerLevels, String identityCardAttrs, String workgroupCardAttrs,
+			String identityIconImgAttribute, String colorCodeSetting, int workgroupMemberPreviewSize) {
+		return managerLevels + "|" + identityCardAttrs + "|" + workgroupCardAttrs + "|" + identityIconImgAttribute + "|" + colorCodeSetting
+				+ "|" + workgroupMemberPreviewSize;
+	}
+
+	private static List<String> parseCardAttrs(String csv) {
+		List<String> attrs = Util.csvToList(csv);
+		if (attrs == null) {
+			return Collections.emptyList();
+		}
+		if (attrs.size() > MAX_CARD_ATTRIBUTES) {
+			attrs = attrs.subList(0, MAX_CARD_ATTRIBUTES);
+		}
+		return Collections.unmodifiableList(new ArrayList<>(attrs));
+	}
+
+	private static Map<String, String> parseColorCodes(String colorCodeSetting) {
+		Map<String, String> colorCodeMap = new HashMap<>();
+		colorCodeMap.put(TYPE_DEFAULT, DEFAULT_COLOR_CODE);
+		if (Util.isNotNullOrEmpty(colorCodeSetting)) {
+			try {
+				colorCodeMap.putAll(JsonHelper.mapFromJson(String.class, String.class, colorCodeSetting));
+			} catch (GeneralException e) {
+				logger.error("Failed to parse color code setting: " + e);
+			}
+		}
+		if (logger.isTraceEnabled()) {
+			logger.trace("colorCodeMap: " + colorCodeMap);
+		}
+		return Collections.unmodifiableMap(colorCodeMap);
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	String getRawSettings() {
+		return rawSettings;
+	}
+
+	/**
+	 * Hash over the raw setting values, stable across restarts
+	 *
+	 * @return String
+	 */
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	public int getManagerLevels() {
+		return managerLevels;
+	}
+
+	public List<String> getIdentityCardAttrs() {
+		return identityCardAttrs;
+	}
+
+	public List<String> getWorkgroupCardAttrs() {
+		return workgroupCardAttrs;
+	}
+
+	public String getIdentityIconImgAttribute() {
+		return identityIconImgAttribute;
+	}
+
+	/**
+	 * Number of member display names embedded in a workgroup node map
+	 *
+	 * @return int
+	 */
+	public int getWorkgroupMemberPreviewSize() {
+		return workgroupMemberPreviewSize;
+	}
+
+	public Map<String, String> getColorCodes() {
+		return colorCodes;
+	}
+
+	/**
+	 * Return the color code of the type, the default color code if none is defined
+	 *
+	 * @param type String
+	 * @return String
+	 */
+	public String getColorCode(String type) {
+		if (Util.isNotNullOrEmpty(type) && colorCodes.containsKey(type)) {
+			return colorCodes.get(type);
+		} else {
+			return colorCodes.get(TYPE_DEFAULT);
+		}
+	}
+}
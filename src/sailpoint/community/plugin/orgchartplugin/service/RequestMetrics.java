@@ -0,0 +1,281 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.tools.GeneralException;
+
+/**
+ * Lightweight per-request instrumentation of the plugin endpoints.
+ *
+ * A request records the wall time per stage, the number of built nodes and, if the countDatabaseCalls
+ * setting is enabled, the number of database calls made through its wrapped SailPointContext. When the request is closed the values are added to
+ * plugin wide histograms of LongAdder buckets, which are exposed in Prometheus text format. Requests
+ * slower than the slowRequestThresholdMillis setting are logged with their stage breakdown.
+ */
+public class RequestMetrics {
+
+	public static final Log logger = LogFactory.getLog(RequestMetrics.class);
+
+	public static final String STAGE_TOTAL = "total";
+
+	private static final String METRIC_PREFIX = "orgchartplugin_";
+	// Upper bounds of the histogram buckets, durations in microseconds
+	private static final long[] DURATION_BOUNDS = { 1000, 2500, 5000, 10000, 25000, 50000, 100000, 250000, 500000,
+			1000000, 2500000, 5000000, 10000000 };
+	private static final long[] COUNT_BOUNDS = { 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+	private static final Set<String> QUERY_METHODS = new HashSet<>(Arrays.asList("search", "countObjects", "getObjectById",
+			"getObjectByName", "getObject", "getObjects", "getUniqueObject", "runRule"));
+
+	private static final ThreadLocal<Request> current = new ThreadLocal<>();
+
+	// Keyed by endpoint, stage
+	private static final ConcurrentMap<String, Histogram> durations = new ConcurrentHashMap<>();
+	private static final ConcurrentMap<String, Histogram> dbCalls = new ConcurrentHashMap<>();
+	private static final ConcurrentMap<String, Histogram> nodes = new ConcurrentHashMap<>();
+
+	/**
+	 * Work measured as one stage
+	 */
+	public interface Timed<T> {
+		T call() throws GeneralException;
+	}
+
+	/**
+	 * Measurements of one request, the counters may be updated from other threads, e.g. the details sections
+	 */
+	public static class Request implements AutoCloseable {
+		private final String endpoint;
+		private final long start = System.nanoTime();
+		private final Map<String, LongAdder> stages = new ConcurrentHashMap<>();
+		private final LongAdder dbCallCount = new LongAdder();
+		private final LongAdder nodeCount = new LongAdder();
+		private volatile boolean closed = false;
+		// Set once a context counting the database calls was handed out
+		private volatile boolean counted = false;
+
+		private Request(String endpoint) {
+			this.endpoint = endpoint;
+		}
+
+		public void addStage(String stage, long nanos) {
+			stages.computeIfAbsent(stage, k -> new LongAdder()).add(nanos);
+		}
+
+		public void addNodes(int count) {
+			nodeCount.add(count);
+		}
+
+		public void addDbCall() {
+			dbCallCount.increment();
+		}
+
+		/**
+		 * Value of the Server-Timing header, e.g. "nodeRows;dur=12.3, total;dur=45.6"
+		 *
+		 * @return String
+		 */
+		public String getServerTiming() {
+			StringBuilder sb = new StringBuilder();
+			for (Map.Entry<String, LongAdder> stage : new TreeMap<>(stages).entrySet()) {
+				sb.append(stage.getKey()).append(";dur=").append(toMillis(stage.getValue().sum())).append(", ");
+			}
+			if (counted) {
+				sb.append("db;desc=\"").append(dbCallCount.sum()).append(" calls\", ");
+			}
+			sb.append(STAGE_TOTAL).append(";dur=").append(toMillis(System.nanoTime() - start));
+			return sb.toString();
+		}
+
+		/**
+		 * Record the request into the histograms, log it when it was slow
+		 */
+		@Override
+		public void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			if (current.get() == this) {
+				current.remove();
+			}
+			long total = System.nanoTime() - start;
+			getHistogram(durations, endpoint + "|" + STAGE_TOTAL, DURATION_BOUNDS).record(TimeUnit.NANOSECONDS.toMicros(total));
+			for (Map.Entry<String, LongAdder> stage : stages.entrySet()) {
+				getHistogram(durations, endpoint + "|" + stage.getKey(), DURATION_BOUNDS).record(TimeUnit.NANOSECONDS.toMicros(stage.getValue().sum()));
+			}
+			if (counted) {
+				getHistogram(dbCalls, endpoint, COUNT_BOUNDS).record(dbCallCount.sum());
+			}
+			getHistogram(nodes, endpoint, COUNT_BOUNDS).record(nodeCount.sum());
+			int threshold = PluginSettingService.getSettingSlowRequestThresholdMillis();
+			if (threshold > 0 && TimeUnit.NANOSECONDS.toMillis(total) >= threshold) {
+				logger.warn("Slow request " + endpoint + ": " + getServerTiming() + ", nodes: " + nodeCount.sum());
+			}
+		}
+	}
+
+	/**
+	 * Start measuring a request on the current thread
+	 *
+	 * @param endpoint String
+	 * @return Request to be closed when the response is built
+	 */
+	public static Request start(String endpoint) {
+		Request request = new Request(endpoint);
+		current.set(request);
+		return request;
+	}
+
+	/**
+	 * Return the request measured on the current thread, null if none
+	 *
+	 * @return Request
+	 */
+	public static Request current() {
+		return current.get();
+	}
+
+	/**
+	 * Run the work and add its wall time to the stage of the current request
+	 *
+	 * @param stage String
+	 * @param timed Timed
+	 * @return T result of the work
+	 * @throws GeneralException
+	 */
+	public static <T> T time(String stage, Timed<T> timed) throws GeneralException {
+		Request request = current.get();
+		if (request == null) {
+			return timed.call();
+		}
+		long start = System.nanoTime();
+		try {
+			return timed.call();
+		} finally {
+			request.addStage(stage, System.nanoTime() - start);
+		}
+	}
+
+	public static void addNodes(int count) {
+		Request request = current.get();
+		if (request != null) {
+			request.addNodes(count);
+		}
+	}
+
+	/**
+	 * Return a SailPointContext which counts the database calls into the request if the countDatabaseCalls
+	 * setting is enabled. The returned proxy implements only the SailPointContext interface, code casting the
+	 * context to its implementation class, e.g. a rule or IdentityIQ API called with it, fails with a
+	 * ClassCastException. The setting is therefore off by default and meant for troubleshooting.
+	 *
+	 * @param context SailPointContext
+	 * @param request Request, the context is returned unchanged if null
+	 * @return SailPointContext
+	 */
+	public static SailPointContext wrap(SailPointContext context, Request request) {
+		if (context == null || request == null || !PluginSettingService.getSettingCountDatabaseCalls()) {
+			return context;
+		}
+		request.counted = true;
+		return (SailPointContext) Proxy.newProxyInstance(SailPointContext.class.getClassLoader(), new Class<?>[] { SailPointContext.class },
+				(proxy, method, args) -> {
+					if (QUERY_METHODS.contains(method.getName())) {
+						request.addDbCall();
+					}
+					try {
+						return method.invoke(context, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+	}
+
+	/**
+	 * Return the histograms in Prometheus text exposition format
+	 *
+	 * @return String
+	 */
+	public static String toPrometheus() {
+		StringBuilder sb = new StringBuilder();
+		appendHistograms(sb, "stage_duration_seconds", "Wall time per endpoint and stage", durations, new String[] { "endpoint", "stage" }, 1000000.0);
+		appendHistograms(sb, "request_db_calls", "Database calls per request", dbCalls, new String[] { "endpoint" }, 1.0);
+		appendHistograms(sb, "request_nodes", "Nodes built per request", nodes, new String[] { "endpoint" }, 1.0);
+		return sb.toString();
+	}
+
+	private static void appendHistograms(StringBuilder sb, String name, String help, Map<String, Histogram> histograms, String[] labelNames, double scale) {
+		String metric = METRIC_PREFIX + name;
+		sb.append("# HELP ").append(metric).append(' ').append(help).append('\n');
+		sb.append("# TYPE ").append(metric).append(" histogram\n");
+		for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+			String[] labelValues = entry.getKey().split("\\|");
+			StringBuilder labels = new StringBuilder();
+			for (int i = 0; i < labelNames.length; i++) {
+				labels.append(labelNames[i]).append("=\"").append(labelValues[i].replace("\"", "\\\"")).append("\",");
+			}
+			Histogram histogram = entry.getValue();
+			long cumulative = 0;
+			for (int i = 0; i < histogram.buckets.length; i++) {
+				cumulative += histogram.buckets[i].sum();
+				String le = (i < histogram.bounds.length ? format(histogram.bounds[i] / scale) : "+Inf");
+				sb.append(metric).append("_bucket{").append(labels).append("le=\"").append(le).append("\"} ").append(cumulative).append('\n');
+			}
+			String labelSet = labels.substring(0, labels.length() - 1);
+			sb.append(metric).append("_sum{").append(labelSet).append("} ").append(format(histogram.sum.sum() / scale)).append('\n');
+			sb.append(metric).append("_count{").append(labelSet).append("} ").append(histogram.count.sum()).append('\n');
+		}
+	}
+
+	private static Histogram getHistogram(ConcurrentMap<String, Histogram> histograms, String key, long[] bounds) {
+		return histograms.computeIfAbsent(key, k -> new Histogram(bounds));
+	}
+
+	private static String toMillis(long nanos) {
+		return format(nanos / 1000000.0);
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.3f", value).replaceAll("\\.?0+$", "");
+	}
+
+	/**
+	 * Fixed bucket histogram, the last bucket counts the values above the highest bound
+	 */
+	private static class Histogram {
+		private final long[] bounds;
+		private final LongAdder[] buckets;
+		private final LongAdder sum = new LongAdder();
+		private final LongAdder count = new LongAdder();
+
+		private Histogram(long[] bounds) {
+			this.bounds = bounds;
+			this.buckets = new LongAdder[bounds.length + 1];
+			for (int i = 0; i < buckets.length; i++) {
+				buckets[i] = new LongAdder();
+			}
+		}
+
+		private void record(long value) {
+			int i = Arrays.binarySearch(bounds, value);
+			buckets[i >= 0 ? i : -i - 1].increment();
+			sum.add(value);
+			count.increment();
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Counts the requests per cacheable node list, e.g. the tree of one identity with its depth and maxChildren.
+ *
+ * The counts are kept in memory of this server. decay halves all counts, so old traffic fades out and the most
+ * requested targets follow the current usage, e.g. on the schedule of the CacheWarmingTask. When MAX_TARGETS is
+ * reached, the EVICTION_BATCH least requested targets are dropped at once by one thread, so the following
+ * unseen targets are added without a scan and without touching the counts of the others.
+ */
+public class RequestStatistics {
+
+	public static final Log logger = LogFactory.getLog(RequestStatistics.class);
+
+	private static final int MAX_TARGETS = 10000;
+	// Targets dropped per eviction, a tenth of the capacity
+	private static final int EVICTION_BATCH = MAX_TARGETS / 10;
+
+	private static final ConcurrentMap<Target, LongAdder> counts = new ConcurrentHashMap<>();
+	private static final AtomicBoolean evicting = new AtomicBoolean();
+
+	/**
+	 * One requested node list
+	 */
+	public static class Target {
+		private final String type;
+		private final String id;
+		private final int depth;
+		private final int maxChildren;
+
+		public Target(String type, String id, int depth, int maxChildren) {
+			this.type = type;
+			this.id = id;
+			this.depth = depth;
+			this.maxChildren = maxChildren;
+		}
+
+		public String getType() {
+			return type;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public int getDepth() {
+			return depth;
+		}
+
+		public int getMaxChildren() {
+			return maxChildren;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Target)) {
+				return false;
+			}
+			Target other = (Target) o;
+			return type.equals(other.type) && id.equals(other.id) && depth == other.depth && maxChildren == other.maxChildren;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, id, depth, maxChildren);
+		}
+
+		@Override
+		public String toString() {
+			return type + ":" + id + ":" + depth + ":" + maxChildren;
+		}
+	}
+
+	/**
+	 * Count one request
+	 *
+	 * @param type String NodeCache.TYPE_TREE or NodeCache.TYPE_MANAGES
+	 * @param id String identity id
+	 * @param depth int
+	 * @param maxChildren int
+	 */
+	public static void record(String type, String id, int depth, int maxChildren) {
+		if (id == null) {
+			return;
+		}
+		Target target = new Target(type, id, depth, maxChildren);
+		LongAdder count = counts.get(target);
+		if (count == null) {
+			if (counts.size() >= MAX_TARGETS && evicting.compareAndSet(false, true)) {
+				try {
+					evict();
+				} finally {
+					evicting.set(false);
+				}
+			}
+			count = counts.computeIfAbsent(target, k -> new LongAdder());
+		}
+		count.increment();
+	}
+
+	/**
+	 * Drop the EVICTION_BATCH least requested targets
+	 */
+	private static void evict() {
+		List<Map.Entry<Target, Long>> snapshot = new ArrayList<>();
+		for (Map.Entry<Target, LongAdder> entry : counts.entrySet()) {
+			snapshot.add(new AbstractMap.SimpleEntry<>(entry.getKey(), entry.getValue().sum()));
+		}
+		List<Target> evicted = snapshot.stream()
+				.sorted(Comparator.comparing((Map.Entry<Target, Long> e) -> e.getValue()))
+				.limit(EVICTION_BATCH)
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList());
+		for (Target target : evicted) {
+			counts.remove(target);
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Evicted " + evicted.size() + " least requested targets, targets: " + counts.size());
+		}
+	}
+
+	/**
+	 * Return the most requested targets, most requested first
+	 *
+	 * @param limit int
+	 * @return List<Target>
+	 */
+	public static List<Target> getTop(int limit) {
+		List<Map.Entry<Target, Long>> snapshot = new ArrayList<>();
+		for (Map.Entry<Target, LongAdder> entry : counts.entrySet()) {
+			snapshot.add(new AbstractMap.SimpleEntry<>(entry.getKey(), entry.getValue().sum()));
+		}
+		return snapshot.stream()
+				.sorted(Comparator.comparing((Map.Entry<Target, Long> e) -> e.getValue()).reversed())
+				.limit(Math.max(0, limit))
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Halve all counts and drop the targets which reach zero
+	 */
+	public static void decay() {
+		Iterator<Map.Entry<Target, LongAdder>> it = counts.entrySet().iterator();
+		while (it.hasNext()) {
+			LongAdder count = it.next().getValue();
+			long half = count.sumThenReset() / 2;
+			if (half == 0) {
+				it.remove();
+			} else {
+				count.add(half);
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Decayed request statistics, targets: " + counts.size());
+		}
+	}
+
+	public static int size() {
+		return counts.size();
+	}
+}
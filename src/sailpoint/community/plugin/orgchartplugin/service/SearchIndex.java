@@ -0,0 +1,551 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.api.SailPointFactory;
+import sailpoint.community.plugin.orgchartplugin.util.Util;
+import sailpoint.object.Filter;
+import sailpoint.object.Identity;
+import sailpoint.object.QueryOptions;
+import sailpoint.tools.GeneralException;
+
+/**
+ * Plugin wide, in-memory prefix index over the name, display name and card attributes of identities and workgroups.
+ *
+ * The words of every identity are kept in one array sorted by word with the identity index per word, i.e. a
+ * flattened prefix trie: all words starting with a prefix are one contiguous range found by binary search.
+ * The index is built with one streaming projection query over Identity and afterwards kept fresh by delta
+ * refreshes on the modified/created timestamps, which merge the words of the changed identities into the
+ * sorted arrays without touching the database for the others. Like the HierarchyIndex, deletes are picked up
+ * by a full rebuild when the database holds fewer identities than the index after the delta or the rebuild
+ * interval is reached.
+ *
+ * Builds and refreshes run on a background thread with a context of their own, requests keep searching the
+ * previous index meanwhile. The refresh interval is the hierarchyIndexRefreshSeconds setting, shared with the
+ * HierarchyIndex.
+ */
+public class SearchIndex {
+
+	public static final Log logger = LogFactory.getLog(SearchIndex.class);
+
+	public static final int DEFAULT_LIMIT = 10;
+	public static final int MAX_LIMIT = 50;
+
+	private static final List<String> INDEX_PROPERTIES = Arrays.asList("id", "name", "displayName", "workgroup", "attributes", "modified", "created");
+	private static final int DEFAULT_REFRESH_SECONDS = 60;
+	private static final long REBUILD_INTERVAL_MS = 60 * 60 * 1000L;
+	private static final int MAX_MANAGER_CHAIN = 50;
+	// Word weights, a match on the display name ranks before a match on an attribute
+	private static final byte FIELD_DISPLAYNAME_FIRST = 4;
+	private static final byte FIELD_DISPLAYNAME = 3;
+	private static final byte FIELD_NAME = 2;
+	private static final byte FIELD_ATTRIBUTE = 1;
+	private static final int SCORE_EXACT = 10;
+
+	private static volatile SearchIndex instance;
+	private static final AtomicBoolean building = new AtomicBoolean();
+	private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "orgchartplugin-search-index");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	// Documents
+	private final Map<String, Integer> dictionary;
+	private final String[] ids;
+	private final String[] names;
+	private final String[] displayNames;
+	private final boolean[] workgroups;
+	// Sorted words with their document and field
+	private final String[] words;
+	private final int[] documents;
+	private final byte[] fields;
+
+	private final List<String> attributes;
+	private final Date watermark;
+	private final long builtAt;
+	private volatile long refreshedAt;
+
+	private SearchIndex(Map<String, Integer> dictionary, String[] ids, String[] names, String[] displayNames, boolean[] workgroups,
+			String[] words, int[] documents, byte[] fields, List<String> attributes, Date watermark, long builtAt) {
+		this.dictionary = dictionary;
+		this.ids = ids;
+		this.names = names;
+		this.displayNames = displayNames;
+		this.workgroups = workgroups;
+		this.words = words;
+		this.documents = documents;
+		this.fields = fields;
+		this.attributes = attributes;
+		this.watermark = watermark;
+		this.builtAt = builtAt;
+		this.refreshedAt = System.currentTimeMillis();
+	}
+
+	/**
+	 * Return the current index and start a refresh in the background when there is none yet, the indexed
+	 * attributes changed or it is older than the refresh interval. Requests never wait for the index: until
+	 * the first build is done null is returned, and while the attributes change the previous index is used.
+	 *
+	 * @return SearchIndex or null while the first build runs
+	 */
+	public static SearchIndex getIndex() {
+		List<String> attributes = getIndexedAttributes(PluginSettingService.getSettings());
+		SearchIndex index = instance;
+		if (index == null || !index.attributes.equals(attributes) || System.currentTimeMillis() - index.refreshedAt > getRefreshIntervalMs()) {
+			refreshInBackground(attributes);
+		}
+		return index;
+	}
+
+	/**
+	 * Return true while a build or refresh of the index runs in the background
+	 *
+	 * @return boolean
+	 */
+	public static boolean isBuilding() {
+		return building.get();
+	}
+
+	private static void refreshInBackground(List<String> attributes) {
+		if (!building.compareAndSet(false, true)) {
+			return;
+		}
+		executor.execute(() -> {
+			SailPointContext context = null;
+			try {
+				context = SailPointFactory.createContext("orgchartplugin-search-index");
+				SearchIndex index = instance;
+				instance = (index == null || !index.attributes.equals(attributes) ? build(context, attributes) : update(context, index));
+			} catch (GeneralException | RuntimeException e) {
+				logger.error("Failed to refresh search index: " + e);
+			} finally {
+				try {
+					if (context != null) {
+						SailPointFactory.releaseContext(context);
+					}
+				} catch (GeneralException e) {
+					logger.warn("Failed to release search index context: " + e);
+				} finally {
+					building.set(false);
+				}
+			}
+		});
+	}
+
+	private static long getRefreshIntervalMs() {
+		int seconds = PluginSettingService.getSettingHierarchyIndexRefreshSeconds();
+		return (seconds > 0 ? seconds : DEFAULT_REFRESH_SECONDS) * 1000L;
+	}
+
+	private static List<String> getIndexedAttributes(PluginSettings settings) {
+		Set<String> attributes = new LinkedHashSet<>();
+		if (settings.getIdentityCardAttrs() != null) {
+			attributes.addAll(settings.getIdentityCardAttrs());
+		}
+		if (settings.getWorkgroupCardAttrs() != null) {
+			attributes.addAll(settings.getWorkgroupCardAttrs());
+		}
+		return new ArrayList<>(attributes);
+	}
+
+	private static SearchIndex update(SailPointContext context, SearchIndex index) throws GeneralException {
+		if (System.currentTimeMillis() - index.builtAt > REBUILD_INTERVAL_MS) {
+			return build(context, index.attributes);
+		}
+		SearchIndex updated = applyDelta(context, index);
+		// As in the HierarchyIndex, a delete offset by a create still leaves fewer identities than indexed after the delta
+		if (context.countObjects(Identity.class, new QueryOptions()) < updated.size()) {
+			return build(context, index.attributes);
+		}
+		return updated;
+	}
+
+	private static SearchIndex build(SailPointContext context, List<String> attributes) throws GeneralException {
+		long start = System.currentTimeMillis();
+		Builder builder = new Builder(attributes, new HashMap<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+		Date watermark = builder.load(context, new QueryOptions(), null);
+		SearchIndex index = builder.toIndex(null, watermark, start);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Built search index with " + index.size() + " identities and " + index.words.length + " words in "
+					+ (System.currentTimeMillis() - start) + "ms");
+		}
+		return index;
+	}
+
+	private static SearchIndex applyDelta(SailPointContext context, SearchIndex index) throws GeneralException {
+		QueryOptions qo = new QueryOptions();
+		if (index.watermark != null) {
+			// Greater or equal, rows modified in the same millisecond as the watermark are re-applied
+			qo.add(Filter.or(Filter.ge("modified", index.watermark), Filter.ge("created", index.watermark)));
+		}
+		Builder builder = new Builder(index.attributes, new HashMap<>(index.dictionary), new ArrayList<>(Arrays.asList(index.ids)),
+				new ArrayList<>(Arrays.asList(index.names)), new ArrayList<>(Arrays.asList(index.displayNames)), new ArrayList<>());
+		for (boolean workgroup : index.workgroups) {
+			builder.workgroups.add(workgroup);
+		}
+		Date watermark = builder.load(context, qo, index.watermark);
+		if (builder.changed.isEmpty()) {
+			index.refreshedAt = System.currentTimeMillis();
+			return index;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Applied " + builder.changed.size() + " changes to search index");
+		}
+		return builder.toIndex(index, watermark, index.builtAt);
+	}
+
+	/**
+	 * Lower case the text and strip the accents, so accented letters match their base letter
+	 *
+	 * @param text String
+	 * @return String
+	 */
+	static String normalize(String text) {
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
+		StringBuilder sb = new StringBuilder(normalized.length());
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if (Character.getType(c) != Character.NON_SPACING_MARK) {
+				sb.append(c);
+			}
+		}
+		return sb.toString().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Split the text into normalized words at every character which is neither a letter nor a digit
+	 *
+	 * @param text String
+	 * @return List<String>
+	 */
+	static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null) {
+			return tokens;
+		}
+		String normalized = normalize(text);
+		int start = -1;
+		for (int i = 0; i <= normalized.length(); i++) {
+			boolean wordChar = (i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i)));
+			if (wordChar && start < 0) {
+				start = i;
+			} else if (!wordChar && start >= 0) {
+				tokens.add(normalized.substring(start, i));
+				start = -1;
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * Return the identities and workgroups having a word starting with every word of the query, ranked by
+	 * display name matches before name and attribute matches, exact words before prefixes.
+	 * Every match carries its manager chain from the direct manager (or workgroup owner) up to the top.
+	 *
+	 * @param context SailPointContext
+	 * @param query String
+	 * @param limit int DEFAULT_LIMIT if not positive, at most MAX_LIMIT
+	 * @return Map<String, Object> with total and matches (id, name, displayName, workgroup, score, managers)
+	 * @throws GeneralException
+	 */
+	public Map<String, Object> search(SailPointContext context, String query, int limit) throws GeneralException {
+		int size = (limit > 0 ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT);
+		List<String> tokens = tokenize(query);
+		Map<String, Object> result = new LinkedHashMap<>();
+		List<Map<String, Object>> matches = new ArrayList<>();
+		result.put("total", 0);
+		result.put("matches", matches);
+		if (tokens.isEmpty()) {
+			return result;
+		}
+		// Number of query words matched and score per document
+		int[] hits = new int[ids.length];
+		int[] scores = new int[ids.length];
+		List<Integer> candidates = new ArrayList<>();
+		for (int k = 0; k < tokens.size(); k++) {
+			String token = tokens.get(k);
+			boolean last = (k == tokens.size() - 1);
+			for (int i = lowerBound(token); i < words.length && words[i].startsWith(token); i++) {
+				int document = documents[i];
+				// The first hit per document and word is the best one, exact words sort before their extensions
+				if (hits[document] == k) {
+					hits[document] = k + 1;
+					scores[document] += fields[i] * (words[i].length() == token.length() ? SCORE_EXACT : 1);
+					if (last) {
+						candidates.add(document);
+					}
+				}
+			}
+		}
+		PriorityQueue<Integer> top = new PriorityQueue<>(size + 1, rankComparator(scores).reversed());
+		for (int document : candidates) {
+			top.add(document);
+			if (top.size() > size) {
+				top.poll();
+			}
+		}
+		List<Integer> ranked = new ArrayList<>(top);
+		ranked.sort(rankComparator(scores));
+		HierarchyIndex hierarchy = HierarchyIndex.getIndex(context);
+		for (int document : ranked) {
+			Map<String, Object> match = getDocumentMap(document);
+			match.put("workgroup", workgroups[document]);
+			match.put("score", scores[document]);
+			match.put("managers", getManagerChain(hierarchy, ids[document]));
+			matches.add(match);
+		}
+		result.put("total", candidates.size());
+		return result;
+	}
+
+	private Comparator<Integer> rankComparator(int[] scores) {
+		return Comparator.<Integer> comparingInt(document -> -scores[document])
+				.thenComparingInt(document -> getLabel(document).length())
+				.thenComparing(this::getLabel);
+	}
+
+	private List<Map<String, Object>> getManagerChain(HierarchyIndex hierarchy, String id) {
+		List<Map<String, Object>> chain = new ArrayList<>();
+		Set<String> seen = new LinkedHashSet<>();
+		seen.add(id);
+		String parentId = hierarchy.getParentId(id);
+		// Stop at the top or at a manager loop
+		while (parentId != null && seen.add(parentId) && chain.size() < MAX_MANAGER_CHAIN) {
+			Integer document = dictionary.get(parentId);
+			if (document != null) {
+				chain.add(getDocumentMap(document));
+			} else {
+				Map<String, Object> manager = new HashMap<>();
+				manager.put("id", parentId);
+				chain.add(manager);
+			}
+			parentId = hierarchy.getParentId(parentId);
+		}
+		return chain;
+	}
+
+	private Map<String, Object> getDocumentMap(int document) {
+		Map<String, Object> map = new HashMap<>();
+		map.put("id", ids[document]);
+		map.put("name", names[document]);
+		map.put("displayName", getLabel(document));
+		return map;
+	}
+
+	private String getLabel(int document) {
+		if (displayNames[document] != null) {
+			return displayNames[document];
+		}
+		return (names[document] != null ? names[document] : ids[document]);
+	}
+
+	private int lowerBound(String token) {
+		int low = 0;
+		int high = words.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (words[mid].compareTo(token) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	public int size() {
+		return ids.length;
+	}
+
+	/**
+	 * Documents and words loaded from the database, the words only of the loaded rows
+	 */
+	private static class Builder {
+		private final List<String> attributes;
+		private final Map<String, Integer> dictionary;
+		private final List<String> ids;
+		private final List<String> names;
+		private final List<String> displayNames;
+		private final List<Boolean> workgroups;
+		private final Set<Integer> changed = new LinkedHashSet<>();
+		private final List<Word> words = new ArrayList<>();
+		private final Map<String, String> pool = new HashMap<>();
+
+		private Builder(List<String> attributes, Map<String, Integer> dictionary, List<String> ids, List<String> names,
+				List<String> displayNames, List<Boolean> workgroups) {
+			this.attributes = attributes;
+			this.dictionary = dictionary;
+			this.ids = ids;
+			this.names = names;
+			this.displayNames = displayNames;
+			this.workgroups = workgroups;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Date load(SailPointContext context, QueryOptions qo, Date watermark) throws GeneralException {
+			Date previousWatermark = watermark;
+			Iterator<Object[]> it = context.search(Identity.class, qo, INDEX_PROPERTIES);
+			while (it.hasNext()) {
+				Object[] row = it.next();
+				String id = Util.otos(row[0]);
+				Integer document = dictionary.get(id);
+				Date changedAt = max((Date) row[5], (Date) row[6]);
+				watermark = max(watermark, changedAt);
+				if (document != null && previousWatermark != null && changedAt != null && !previousWatermark.before(changedAt)
+						&& Util.nullSafeEq(names.get(document), Util.otos(row[1])) && Util.nullSafeEq(displayNames.get(document), Util.otos(row[2]))) {
+					// Already applied by the previous refresh, only re-read because of the inclusive watermark
+					continue;
+				}
+				if (document == null) {
+					document = ids.size();
+					dictionary.put(id, document);
+					ids.add(id);
+					names.add(null);
+					displayNames.add(null);
+					workgroups.add(false);
+				}
+				names.set(document, Util.otos(row[1]));
+				displayNames.set(document, Util.otos(row[2]));
+				workgroups.set(document, Util.otob(row[3]));
+				// Re-applied rows replace all words of the document
+				if (changed.add(document)) {
+					addWords(document, Util.otos(row[2]), FIELD_DISPLAYNAME_FIRST);
+					addWords(document, Util.otos(row[1]), FIELD_NAME);
+					if (row[4] instanceof Map) {
+						Map<String, Object> attrs = (Map<String, Object>) row[4];
+						for (String attribute : attributes) {
+							addWords(document, Util.otos(attrs.get(attribute)), FIELD_ATTRIBUTE);
+						}
+					}
+				}
+			}
+			Util.flushIterator(it);
+			return watermark;
+		}
+
+		/**
+		 * Add the words of the text, the first word of the display name is weighted higher than the others
+		 */
+		private void addWords(int document, String text, byte field) {
+			for (String token : tokenize(text)) {
+				// Share the instances of words occurring in many documents, e.g. first names
+				String word = pool.computeIfAbsent(token, k -> k);
+				words.add(new Word(word, document, field));
+				if (field == FIELD_DISPLAYNAME_FIRST) {
+					field = FIELD_DISPLAYNAME;
+				}
+			}
+		}
+
+		private static Date max(Date a, Date b) {
+			if (a == null) {
+				return b;
+			}
+			return (b != null && b.after(a) ? b : a);
+		}
+
+		/**
+		 * Sort the loaded words and merge them with the words of the unchanged documents of the previous index
+		 *
+		 * @param previous SearchIndex null for a full build
+		 * @param watermark Date
+		 * @param builtAt long
+		 * @return SearchIndex
+		 */
+		private SearchIndex toIndex(SearchIndex previous, Date watermark, long builtAt) {
+			words.sort(Word.ORDER);
+			int kept = 0;
+			if (previous != null) {
+				for (int document : previous.documents) {
+					if (!changed.contains(document)) {
+						kept++;
+					}
+				}
+			}
+			int total = kept + words.size();
+			String[] mergedWords = new String[total];
+			int[] mergedDocuments = new int[total];
+			byte[] mergedFields = new byte[total];
+			int i = 0;
+			int j = 0;
+			int n = 0;
+			int previousLength = (previous != null ? previous.words.length : 0);
+			while (i < previousLength || j < words.size()) {
+				if (i < previousLength && changed.contains(previous.documents[i])) {
+					i++;
+					continue;
+				}
+				boolean takePrevious = (j >= words.size()
+						|| (i < previousLength && Word.compare(previous.words[i], previous.fields[i], previous.documents[i], words.get(j)) <= 0));
+				if (takePrevious) {
+					mergedWords[n] = previous.words[i];
+					mergedDocuments[n] = previous.documents[i];
+					mergedFields[n] = previous.fields[i];
+					i++;
+				} else {
+					Word word = words.get(j);
+					mergedWords[n] = word.word;
+					mergedDocuments[n] = word.document;
+					mergedFields[n] = word.field;
+					j++;
+				}
+				n++;
+			}
+			int size = ids.size();
+			boolean[] workgroupFlags = new boolean[size];
+			for (int k = 0; k < size; k++) {
+				workgroupFlags[k] = workgroups.get(k);
+			}
+			return new SearchIndex(dictionary, ids.toArray(new String[size]), names.toArray(new String[size]),
+					displayNames.toArray(new String[size]), workgroupFlags, mergedWords, mergedDocuments, mergedFields,
+					attributes, watermark, builtAt);
+		}
+	}
+
+	/**
+	 * One word of a document, ordered by word and then by field weight so the best field of a document comes first
+	 */
+	private static class Word {
+		private static final Comparator<Word> ORDER = Comparator.<Word, String> comparing(w -> w.word)
+				.thenComparingInt(w -> -w.field).thenComparingInt(w -> w.document);
+
+		private final String word;
+		private final int document;
+		private final byte field;
+
+		private Word(String word, int document, byte field) {
+			this.word = word;
+			this.document = document;
+			this.field = field;
+		}
+
+		private static int compare(String word, byte field, int document, Word other) {
+			int result = word.compareTo(other.word);
+			if (result == 0) {
+				result = Integer.compare(other.field, field);
+			}
+			return (result != 0 ? result : Integer.compare(document, other.document));
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.community.plugin.orgchartplugin.util.Util;
+import sailpoint.tools.GeneralException;
+
+/**
+ * Processes a list in fixed-size batches on one SailPointContext and clears its Hibernate session between the batches.
+ *
+ * Everything a batch needs has to be copied out of the loaded objects before the batch ends, objects of earlier
+ * batches are detached afterwards. A list which fits into one batch is processed without clearing the session,
+ * so callers holding objects of the context are not affected by small requests.
+ *
+ * Only use it on paths which load objects into the session, e.g. policy violations, and on contexts owned by
+ * the caller: clearing the session of a REST request context detaches objects the framework still holds,
+ * e.g. the logged in Identity. Projection queries do not need it, they load nothing into the session.
+ */
+public class SessionBatches {
+
+	public static final Log logger = LogFactory.getLog(SessionBatches.class);
+
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
+	/**
+	 * Work on one batch of the list
+	 */
+	public interface Batch<T> {
+		void process(List<T> batch) throws GeneralException;
+	}
+
+	/**
+	 * Process the items in batches of batchSize, the session is cleared after every batch but the last
+	 *
+	 * @param context SailPointContext
+	 * @param items List<T>
+	 * @param batchSize int
+	 * @param batch Batch<T>
+	 * @throws GeneralException
+	 */
+	public static <T> void forEach(SailPointContext context, List<T> items, int batchSize, Batch<T> batch) throws GeneralException {
+		List<List<T>> batches = Util.partition(items, batchSize);
+		for (int i = 0; i < batches.size(); i++) {
+			batch.process(batches.get(i));
+			if (i < batches.size() - 1) {
+				long start = System.nanoTime();
+				context.decache();
+				RequestMetrics.Request request = RequestMetrics.current();
+				if (request != null) {
+					request.addStage("decache", System.nanoTime() - start);
+				}
+			}
+		}
+		if (logger.isTraceEnabled() && batches.size() > 1) {
+			logger.trace("Processed " + items.size() + " items in " + batches.size() + " batches");
+		}
+	}
+}
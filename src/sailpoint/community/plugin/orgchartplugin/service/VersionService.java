@@ -0,0 +1,120 @@
+package sailpoint.community.plugin.orgchartplugin.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.ws.rs.core.EntityTag;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.tools.GeneralException;
+
+/**
+ * Version stamps of the node responses, used as ETag to answer repeated requests with 304 Not Modified.
+ *
+ * The stamp combines the hierarchy index generation, the latest modified timestamp of all identities seen
+ * by the last index refresh and the settings fingerprint. Changes which do not touch an identity, e.g. a new
+ * policy violation, are picked up by the TTL window of the node cache: the stamp also changes every
+ * nodeCacheTtlSeconds, so a response is never reused longer than the node cache would serve it. The NodeCache
+ * keys carry the same index version and its entries expire with the TTL window, so the stamp matches the cached nodes.
+ *
+ * The details are not cached, their stamp is derived from the objects the sections are read from instead of
+ * the TTL window: one aggregate query returns the count and the latest modification of the policy violations,
+ * the owned entitlements and the owned roles of the identity. The version of the configuration MetadataCache
+ * tracks and the identityDetailAttributes setting are part of the stamp, so changed display names or detail
+ * attributes are not answered with 304.
+ */
+public class VersionService {
+
+	// Count and latest change of the objects the details sections are read from, IIQ stores the dates as milliseconds
+	private static final String DETAILS_STAMP_SQL = "SELECT COUNT(*), MAX(created), MAX(modified) FROM ("
+			+ "SELECT created, modified FROM spt_policy_violation WHERE identity_id = ? "
+			+ "UNION ALL SELECT created, modified FROM spt_managed_attribute WHERE owner = ? "
+			+ "UNION ALL SELECT created, modified FROM spt_bundle WHERE owner = ?) stamp";
+
+	/**
+	 * Return the ETag of a response built from the given request parts, null if the node cache is disabled
+	 *
+	 * @param context SailPointContext
+	 * @param settings PluginSettings
+	 * @param parts String... endpoint and request parameters the response depends on
+	 * @return EntityTag
+	 * @throws GeneralException
+	 */
+	public static EntityTag getEntityTag(SailPointContext context, PluginSettings settings, String... parts) throws GeneralException {
+		int ttlSeconds = PluginSettingService.getSettingNodeCacheTtlSeconds();
+		if (ttlSeconds <= 0) {
+			return null;
+		}
+		return buildEntityTag(context, settings, String.valueOf(System.currentTimeMillis() / (ttlSeconds * 1000L)), parts);
+	}
+
+	/**
+	 * Return the ETag of the details of the identity, null if the node cache is disabled
+	 *
+	 * @param context SailPointContext
+	 * @param settings PluginSettings
+	 * @param type String
+	 * @param id String
+	 * @return EntityTag
+	 * @throws GeneralException
+	 */
+	public static EntityTag getDetailsEntityTag(SailPointContext context, PluginSettings settings, String type, String id) throws GeneralException {
+		if (PluginSettingService.getSettingNodeCacheTtlSeconds() <= 0) {
+			return null;
+		}
+		return buildEntityTag(context, settings, "", "details", type, id, getDetailsStamp(context, id), MetadataCache.getVersion(context),
+				PluginSettingService.getSettingIdentityDetailAttrsValue());
+	}
+
+	private static EntityTag buildEntityTag(SailPointContext context, PluginSettings settings, String window, String... parts) throws GeneralException {
+		HierarchyIndex index = HierarchyIndex.getIndex(context);
+		StringBuilder sb = new StringBuilder();
+		sb.append(index.getVersion()).append('|');
+		sb.append(window).append('|');
+		sb.append(settings.getFingerprint());
+		for (String part : parts) {
+			sb.append('|').append(part);
+		}
+		return new EntityTag(hash(sb.toString()));
+	}
+
+	/**
+	 * Read the stamp of the details objects of the identity with one query on the connection of the context.
+	 * The connection belongs to the session of the context and is not closed.
+	 */
+	private static String getDetailsStamp(SailPointContext context, String id) throws GeneralException {
+		Connection connection = context.getJdbcConnection();
+		try (PreparedStatement statement = connection.prepareStatement(DETAILS_STAMP_SQL)) {
+			statement.setString(1, id);
+			statement.setString(2, id);
+			statement.setString(3, id);
+			try (ResultSet result = statement.executeQuery()) {
+				if (!result.next()) {
+					return "";
+				}
+				return result.getLong(1) + ":" + result.getLong(2) + ":" + result.getLong(3);
+			}
+		} catch (SQLException e) {
+			throw new GeneralException("Failed to read the details stamp of " + id + ": " + e.getMessage(), e);
+		}
+	}
+
+	private static String hash(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			byte[] hash = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < 16; i++) {
+				sb.append(String.format("%02x", hash[i]));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(value.hashCode());
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package sailpoint.community.plugin.orgchartplugin.task;
+
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.community.plugin.orgchartplugin.service.CacheWarmingService;
+import sailpoint.community.plugin.orgchartplugin.service.HierarchyIndex;
+import sailpoint.community.plugin.orgchartplugin.service.PluginSettingService;
+import sailpoint.community.plugin.orgchartplugin.service.RequestStatistics;
+import sailpoint.object.Attributes;
+import sailpoint.object.TaskResult;
+import sailpoint.object.TaskSchedule;
+import sailpoint.task.AbstractTaskExecutor;
+import sailpoint.tools.Message;
+
+/**
+ * Refreshes the hierarchy index and warms the node cache with the most requested trees and report lists and
+ * the first levels of the hierarchy, e.g. scheduled before office hours or after the aggregation.
+ *
+ * The node cache and the request statistics are kept in memory, so the task has to run on the servers
+ * answering the org chart requests.
+ */
+public class CacheWarmingTask extends AbstractTaskExecutor {
+
+	public static final Log logger = LogFactory.getLog(CacheWarmingTask.class);
+
+	public static final String ARG_TOP_REQUESTS = "topRequests";
+	public static final String ARG_LEVELS = "levels";
+	public static final String ARG_MAX_CHILDREN = "maxChildren";
+	public static final String ARG_PARALLELISM = "parallelism";
+	public static final String ARG_TIME_BUDGET_SECONDS = "timeBudgetSeconds";
+	public static final String RET_WARMED = "warmed";
+	public static final String RET_FAILED = "failed";
+	public static final String RET_SKIPPED = "skipped";
+
+	private static final int DEFAULT_TOP_REQUESTS = 100;
+	private static final int DEFAULT_LEVELS = 2;
+	// Page size of the reports requested by the UI
+	private static final int DEFAULT_MAX_CHILDREN = 25;
+	private static final int DEFAULT_PARALLELISM = 4;
+	private static final int DEFAULT_TIME_BUDGET_SECONDS = 300;
+
+	private volatile boolean terminated = false;
+
+	@Override
+	public void execute(SailPointContext context, TaskSchedule schedule, TaskResult result, Attributes<String, Object> args) throws Exception {
+		if (PluginSettingService.getSettingNodeCacheTtlSeconds() <= 0) {
+			result.addMessage(Message.warn("The node cache is disabled, nodeCacheTtlSeconds is not set"));
+			return;
+		}
+		Attributes<String, Object> arguments = (args != null ? args : new Attributes<>());
+		int topRequests = getPositive(arguments, ARG_TOP_REQUESTS, DEFAULT_TOP_REQUESTS);
+		int levels = getPositive(arguments, ARG_LEVELS, DEFAULT_LEVELS);
+		int maxChildren = getPositive(arguments, ARG_MAX_CHILDREN, DEFAULT_MAX_CHILDREN);
+		int parallelism = getPositive(arguments, ARG_PARALLELISM, DEFAULT_PARALLELISM);
+		int timeBudgetSeconds = getPositive(arguments, ARG_TIME_BUDGET_SECONDS, DEFAULT_TIME_BUDGET_SECONDS);
+		long deadline = System.currentTimeMillis() + timeBudgetSeconds * 1000L;
+
+		HierarchyIndex index = HierarchyIndex.refresh(context);
+		List<RequestStatistics.Target> targets = CacheWarmingService.getWarmSet(index, topRequests, levels, maxChildren);
+		// Older requests count less in the next run
+		RequestStatistics.decay();
+		CacheWarmingService.WarmResult warm = CacheWarmingService.warm(targets, PluginSettingService.getSettings(), parallelism, deadline,
+				() -> terminated);
+		result.setAttribute(RET_WARMED, warm.getWarmed());
+		result.setAttribute(RET_FAILED, warm.getFailed());
+		result.setAttribute(RET_SKIPPED, warm.getSkipped());
+		if (warm.getSkipped() > 0 && !terminated) {
+			result.addMessage(Message.warn("Time budget of " + timeBudgetSeconds + " seconds used up, skipped: " + warm.getSkipped()));
+		}
+		logger.info("Node cache warmed, warmed: " + warm.getWarmed() + ", failed: " + warm.getFailed() + ", skipped: " + warm.getSkipped());
+	}
+
+	private static int getPositive(Attributes<String, Object> args, String name, int defaultValue) {
+		int value = args.getInt(name, defaultValue);
+		return (value > 0 ? value : defaultValue);
+	}
+
+	@Override
+	public boolean terminate() {
+		terminated = true;
+		return true;
+	}
+}
@@ -0,0 +1,48 @@
+package sailpoint.community.plugin.orgchartplugin.task;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.community.plugin.orgchartplugin.service.ClosureService;
+import sailpoint.community.plugin.orgchartplugin.service.HierarchyIndex;
+import sailpoint.object.Attributes;
+import sailpoint.object.TaskResult;
+import sailpoint.object.TaskSchedule;
+import sailpoint.task.AbstractTaskExecutor;
+
+/**
+ * Refreshes the hierarchy index and brings the closure table in the plugin database in line with it.
+ *
+ * Only the identities whose manager changed since the last run and their reports are rewritten, unless the
+ * fullRebuild argument is set.
+ */
+public class ClosureTableTask extends AbstractTaskExecutor {
+
+	public static final Log logger = LogFactory.getLog(ClosureTableTask.class);
+
+	public static final String ARG_FULL_REBUILD = "fullRebuild";
+	public static final String RET_CHANGED_IDENTITIES = "changedIdentities";
+	public static final String RET_DELETED_IDENTITIES = "deletedIdentities";
+	public static final String RET_CLOSURE_ROWS = "closureRows";
+
+	private volatile boolean terminated = false;
+
+	@Override
+	public void execute(SailPointContext context, TaskSchedule schedule, TaskResult result, Attributes<String, Object> args) throws Exception {
+		boolean fullRebuild = (args != null && args.getBoolean(ARG_FULL_REBUILD));
+		HierarchyIndex index = (fullRebuild ? HierarchyIndex.rebuild(context) : HierarchyIndex.refresh(context));
+		ClosureService.UpdateResult update = ClosureService.update(index, fullRebuild, () -> terminated);
+		result.setAttribute(RET_CHANGED_IDENTITIES, update.getChangedIdentities());
+		result.setAttribute(RET_DELETED_IDENTITIES, update.getDeletedIdentities());
+		result.setAttribute(RET_CLOSURE_ROWS, update.getInsertedRows());
+		logger.info("Closure table updated, changed identities: " + update.getChangedIdentities() + ", deleted identities: "
+				+ update.getDeletedIdentities() + ", inserted rows: " + update.getInsertedRows());
+	}
+
+	@Override
+	public boolean terminate() {
+		terminated = true;
+		return true;
+	}
+}
@@ -1,7 +1,10 @@
 package sailpoint.community.plugin.orgchartplugin.util;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 
 import org.apache.commons.logging.Log;
@@ -17,23 +20,31 @@ public class Util extends sailpoint.tools.Util {
 
 	public static final Log logger = LogFactory.getLog(IdentityService.class);
 	
+	private static final boolean IIQ_VERSION_AFTER_82 = isAfterIIQVersion(8, 2);
+	// Resolved once, JsonHelper.toJson(Object, JsonOptions...) only exists since IIQ 8.2
+	private static final MethodHandle TO_JSON = lookupToJson();
+	
+	private static MethodHandle lookupToJson() {
+		try {
+			if (IIQ_VERSION_AFTER_82) {
+				MethodHandle toJson = MethodHandles.publicLookup().findStatic(JsonHelper.class, "toJson", 
+						MethodType.methodType(String.class, Object.class, JsonHelper.JsonOptions[].class));
+				return MethodHandles.insertArguments(toJson, 1, (Object) new JsonHelper.JsonOptions[] {JsonHelper.JsonOptions.PRETTY_PRINT});
+			} else {
+				return MethodHandles.publicLookup().findStatic(JsonHelper.class, "toJson", MethodType.methodType(String.class, Object.class));
+			}
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			logger.error(e);
+			return null;
+		}
+	}
+	
 	public static String toJson(Object value) {
 		String json = null;
-		Class<JsonHelper> jsonHelperClazz = sailpoint.tools.JsonHelper.class;
-		String methodName = "toJson";
-		Method method;
-		if (Util.isIIQVersionAfter82()) {
-			try {
-				method = jsonHelperClazz.getMethod(methodName, Object.class, JsonHelper.JsonOptions[].class);
-				json = (String) method.invoke(null, value, new JsonHelper.JsonOptions[] {JsonHelper.JsonOptions.PRETTY_PRINT});
-			} catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-				logger.error(e);
-			}
-		} else {
+		if (TO_JSON != null) {
 			try {
-				method = jsonHelperClazz.getMethod(methodName, Object.class);
-				json = (String) method.invoke(null, value);
-			} catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+				json = (String) TO_JSON.invoke(value);
+			} catch (Throwable e) {
 				logger.error(e);
 			}
 		}
@@ -41,11 +52,11 @@ public class Util extends sailpoint.tools.Util {
 	}
 	
 	/** 
-     * Check if IIQ version is after 8.1
+     * Check if IIQ version is after 8.1, evaluated once at class load
      * @return boolean
      */
     public static boolean isIIQVersionAfter82() {
-    	return isAfterIIQVersion(8, 2);
+    	return IIQ_VERSION_AFTER_82;
     }
     
     private static boolean isAfterIIQVersion(int mainVersion, int patchVersion) {
@@ -89,6 +100,23 @@ public class Util extends sailpoint.tools.Util {
 		return value; 
     }
 	
+    /**
+     * Split the list into consecutive chunks of at most the given size, e.g. to keep
+     * Filter.in clauses below the database limit for the number of bind parameters.
+     * @param list List
+     * @param size int
+     * @return List<List<T>>
+     */
+    public static <T> List<List<T>> partition(List<T> list, int size) {
+    	List<List<T>> chunks = new ArrayList<>();
+    	if (list != null) {
+    		for (int i = 0; i < list.size(); i += size) {
+    			chunks.add(list.subList(i, Math.min(i + size, list.size())));
+    		}
+    	}
+    	return chunks;
+    }
+	
     /** 
      * Return the Locale object based on input string e.g. en_US
      * @param locale String